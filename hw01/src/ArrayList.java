@@ -1,4 +1,12 @@
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * The implementation of an ArrayList, which is a list data structure backed
@@ -10,30 +18,84 @@ import java.util.NoSuchElementException;
  * @userid mnamgoong3
  * @GTID 903684766
  */
-public class ArrayList<T> {
+public class ArrayList<T> implements Iterable<T> {
 
     /**
      * The initial capacity of the ArrayList.
      */
     public static final int INITIAL_CAPACITY = 9;
 
+    private final CapacityPolicy policy;
     private T[] backingArray;
     private int size;
+    private int growCount;
+    private int shrinkCount;
 
     /**
      * Constructs a new ArrayList. The backing array is an empty array of the
      * initial capacity.
      */
     public ArrayList() {
-        backingArray = (T[]) new Object[INITIAL_CAPACITY];
+        this(CapacityPolicy.DEFAULT);
+    }
+
+    /**
+     * Constructs a new ArrayList that grows and shrinks according to the
+     * given policy. The backing array is an empty array of the policy's
+     * initial capacity.
+     *
+     * @param policy the policy deciding when the backing array is resized
+     * @throws java.lang.IllegalArgumentException if policy is null
+     */
+    public ArrayList(CapacityPolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException("The capacity policy cannot be "
+                    + "null.");
+        }
+        this.policy = policy;
+        backingArray = (T[]) new Object[policy.getInitialCapacity()];
         size = 0;
     }
 
+    /**
+     * Constructs a new ArrayList that takes over the given array as its
+     * backing array without copying it, so the list holds every element of
+     * the array. The array must not contain null, and the caller must not
+     * use it afterward.
+     *
+     * @param backingArray the array to take over
+     * @param policy       the policy deciding when the backing array is
+     *                     resized
+     */
+    ArrayList(T[] backingArray, CapacityPolicy policy) {
+        this.policy = policy;
+        this.backingArray = backingArray;
+        size = backingArray.length;
+    }
+
+    /**
+     * Hands the data over as an array of length size and leaves the list
+     * empty, with a fresh backing array of the policy's initial capacity.
+     * The list never touches the returned array again, so the caller owns
+     * it even if other code still holds the list.
+     *
+     * O(1) if the backing array is full and O(n) otherwise.
+     *
+     * @return the array of length size holding all of the data in the list
+     */
+    T[] detach() {
+        trimToSize();
+        T[] detached = backingArray;
+        backingArray = (T[]) new Object[policy.getInitialCapacity()];
+        size = 0;
+        return detached;
+    }
+
     /**
      * Adds a new element to the specified index while shifting current
      * elements as necessary to maintain the order of the list. If the
-     * ArrayList does not have enough space, it is resized to twice its old
-     * capacity.
+     * ArrayList does not have enough space, it is grown according to its
+     * capacity policy, which by default doubles its old capacity.
      *
      * Amortized O(1) for index size and O(n) for all other cases.
      *
@@ -43,15 +105,6 @@ public class ArrayList<T> {
      * @throws java.lang.IllegalArgumentException  if data is null
      */
     public void addAtIndex(int index, T data) {
-        // Checks if the ArrayList is full
-        if (!isEmpty() && backingArray[backingArray.length - 1] != null) {
-            T[] oldArray = backingArray;
-            // Resizes the ArrayList to twice its old capacity
-            backingArray = (T[]) new Object[size * 2];
-            for (int i = 0; i < oldArray.length; i++) {
-                backingArray[i] = oldArray[i];
-            }
-        }
         if (index < 0 || index > size) {
             throw new IndexOutOfBoundsException("The index cannot be less than "
                     + "0 or greater than " + size + ".");
@@ -60,15 +113,15 @@ public class ArrayList<T> {
             throw new IllegalArgumentException("Cannot insert null data into "
                     + "the data structure.");
         }
-        if (index == size) {
-            backingArray[index] = data;
-        } else {
-            // Shifts subsequent elements backward by one position
-            for (int i = backingArray.length - 1; i > index; i--) {
-                backingArray[i] = backingArray[i - 1];
-            }
-            backingArray[index] = data;
+        // Checks if the ArrayList is full
+        if (size == backingArray.length) {
+            resize(policy.grow(backingArray.length, size + 1));
+            growCount++;
         }
+        // Shifts subsequent elements backward by one position
+        System.arraycopy(backingArray, index, backingArray, index + 1,
+                size - index);
+        backingArray[index] = data;
         size++;
     }
 
@@ -107,9 +160,10 @@ public class ArrayList<T> {
     /**
      * Removes and returns the element at the specified index. Shifts current
      * elements as necessary to maintain the order of the list. All unused
-     * positions are set to null.
+     * positions are set to null. If the capacity policy shrinks on removal
+     * and the list has become sparse, the backing array is shrunk.
      *
-     * O(1) for index size - 1 and O(n) for all other cases.
+     * Amortized O(1) for index size - 1 and O(n) for all other cases.
      *
      * @param index the index of the element to remove
      * @return the data formerly located at the specified index
@@ -120,18 +174,13 @@ public class ArrayList<T> {
             throw new IndexOutOfBoundsException("The index cannot be less than "
                     + "0 or greater than or equal to " + size + ".");
         }
-        T removed;
-        if (index == size - 1) {
-            removed = backingArray[size - 1];
-        } else {
-            removed = backingArray[index];
-            // Shifts subsequent elements forward by one position
-            for (int i = index; i < size - 1; i++) {
-                backingArray[i] = backingArray[i + 1];
-            }
-        }
+        T removed = backingArray[index];
+        // Shifts subsequent elements forward by one position
+        System.arraycopy(backingArray, index + 1, backingArray, index,
+                size - index - 1);
         backingArray[size - 1] = null;
         size--;
+        shrinkIfSparse();
         return removed;
     }
 
@@ -167,6 +216,252 @@ public class ArrayList<T> {
         return removeAtIndex(size - 1);
     }
 
+    /**
+     * Adds every element of the given collection to the back of the list, in
+     * the collection's iteration order. The backing array is resized at most
+     * once.
+     *
+     * O(k) amortized, where k is the size of the collection.
+     *
+     * @param data the collection of data to add to the back of the list
+     * @throws java.lang.IllegalArgumentException if data is null or contains
+     *                                            null
+     */
+    public void addAll(Collection<? extends T> data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot insert a null "
+                    + "collection into the data structure.");
+        }
+        insertAll(size, (T[]) data.toArray());
+    }
+
+    /**
+     * Inserts every element of the given array at the specified index, in
+     * order, shifting current elements back to make room. The backing array
+     * is resized at most once and the tail is shifted with one block copy.
+     *
+     * O(n + k), where k is the length of the array.
+     *
+     * @param index the index at which to insert the first new element
+     * @param data  the array of data to insert
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index > size
+     * @throws java.lang.IllegalArgumentException  if data is null or contains
+     *                                             null
+     */
+    public void insertAll(int index, T[] data) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("The index cannot be less than "
+                    + "0 or greater than " + size + ".");
+        }
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot insert a null array "
+                    + "into the data structure.");
+        }
+        for (T element : data) {
+            if (element == null) {
+                throw new IllegalArgumentException("Cannot insert null data "
+                        + "into the data structure.");
+            }
+        }
+        int count = data.length;
+        ensureCapacity(size + count);
+        System.arraycopy(backingArray, index, backingArray, index + count,
+                size - index);
+        System.arraycopy(data, 0, backingArray, index, count);
+        size += count;
+    }
+
+    /**
+     * Removes the elements from index from, inclusive, to index to,
+     * exclusive. The tail is shifted forward with one block copy and all
+     * unused positions are set to null.
+     *
+     * O(n) for all cases.
+     *
+     * @param from the index of the first element to remove
+     * @param to   the index after the last element to remove
+     * @throws java.lang.IndexOutOfBoundsException if from < 0, to > size or
+     *                                             from > to
+     */
+    public void removeRange(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("The range [" + from + ", "
+                    + to + ") is not within [0, " + size + ").");
+        }
+        System.arraycopy(backingArray, to, backingArray, from, size - to);
+        int newSize = size - (to - from);
+        for (int i = newSize; i < size; i++) {
+            backingArray[i] = null;
+        }
+        size = newSize;
+        shrinkIfSparse();
+    }
+
+    /**
+     * Replaces every element of the list with the result of applying the
+     * given operator to it. If the operator returns null for an element, the
+     * elements before it have already been replaced.
+     *
+     * O(n) for all cases.
+     *
+     * @param operator the operator to apply to each element
+     * @throws java.lang.IllegalArgumentException if operator is null or
+     *                                            returns null
+     */
+    public void replaceAll(UnaryOperator<T> operator) {
+        if (operator == null) {
+            throw new IllegalArgumentException("The operator cannot be null.");
+        }
+        for (int i = 0; i < size; i++) {
+            T replaced = operator.apply(backingArray[i]);
+            if (replaced == null) {
+                throw new IllegalArgumentException("Cannot insert null data "
+                        + "into the data structure.");
+            }
+            backingArray[i] = replaced;
+        }
+    }
+
+    /**
+     * Inserts the data into a list that is sorted by the given comparator,
+     * keeping it sorted. The slot is found with a binary search and opened
+     * with one block copy. Equal elements keep their insertion order: the
+     * new element goes after every element it compares equal to.
+     *
+     * O(log n) to find the slot and O(n) to shift the tail.
+     *
+     * @param data       the data to insert
+     * @param comparator the comparator the list is sorted by
+     * @return the index the data was inserted at
+     * @throws java.lang.IllegalArgumentException if data or comparator is
+     *                                            null
+     */
+    public int insertSorted(T data, Comparator<? super T> comparator) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot insert null data into "
+                    + "the data structure.");
+        }
+        int index = upperBound(data, comparator);
+        addAtIndex(index, data);
+        return index;
+    }
+
+    /**
+     * Merges a batch of data that is already sorted by the given comparator
+     * into a list that is sorted by the same comparator, in a single linear
+     * pass. The backing array is resized at most once and the merge fills it
+     * from the back, so no element is moved more than once. Equal elements
+     * from the batch go after the equal elements already in the list.
+     *
+     * O(n + k), where k is the length of the batch.
+     *
+     * @param batch      the sorted data to merge in
+     * @param comparator the comparator the list and the batch are sorted by
+     * @throws java.lang.IllegalArgumentException if batch or comparator is
+     *                                            null, or batch contains null
+     *                                            or is not sorted
+     */
+    public void mergeSortedBatch(T[] batch, Comparator<? super T> comparator) {
+        if (batch == null || comparator == null) {
+            throw new IllegalArgumentException("The batch and comparator "
+                    + "cannot be null.");
+        }
+        for (int i = 0; i < batch.length; i++) {
+            if (batch[i] == null) {
+                throw new IllegalArgumentException("Cannot insert null data "
+                        + "into the data structure.");
+            }
+            if (i > 0 && comparator.compare(batch[i - 1], batch[i]) > 0) {
+                throw new IllegalArgumentException("The batch is not sorted.");
+            }
+        }
+        ensureCapacity(size + batch.length);
+        int read = size - 1;
+        int write = size + batch.length - 1;
+        for (int j = batch.length - 1; j >= 0; j--) {
+            // Moves every list element greater than batch[j] past it
+            while (read >= 0
+                    && comparator.compare(backingArray[read], batch[j]) > 0) {
+                backingArray[write--] = backingArray[read--];
+            }
+            backingArray[write--] = batch[j];
+        }
+        size += batch.length;
+    }
+
+    /**
+     * Returns the index of an element equal to the data in a list that is
+     * sorted by the given comparator, or -1 if there is none. If several
+     * elements are equal to the data, the first one is returned.
+     *
+     * O(log n) for all cases.
+     *
+     * @param data       the data to search for
+     * @param comparator the comparator the list is sorted by
+     * @return the index of the first equal element, or -1
+     * @throws java.lang.IllegalArgumentException if data or comparator is
+     *                                            null
+     */
+    public int indexOf(T data, Comparator<? super T> comparator) {
+        int index = lowerBound(data, comparator);
+        if (index < size
+                && comparator.compare(backingArray[index], data) == 0) {
+            return index;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns whether a list that is sorted by the given comparator holds an
+     * element equal to the data.
+     *
+     * O(log n) for all cases.
+     *
+     * @param data       the data to search for
+     * @param comparator the comparator the list is sorted by
+     * @return true if an equal element is in the list, false otherwise
+     * @throws java.lang.IllegalArgumentException if data or comparator is
+     *                                            null
+     */
+    public boolean contains(T data, Comparator<? super T> comparator) {
+        return indexOf(data, comparator) != -1;
+    }
+
+    /**
+     * Returns the index of the last element less than or equal to the data
+     * in a list that is sorted by the given comparator, or -1 if there is
+     * none.
+     *
+     * O(log n) for all cases.
+     *
+     * @param data       the data to search for
+     * @param comparator the comparator the list is sorted by
+     * @return the index of the floor of the data, or -1
+     * @throws java.lang.IllegalArgumentException if data or comparator is
+     *                                            null
+     */
+    public int floorIndex(T data, Comparator<? super T> comparator) {
+        return upperBound(data, comparator) - 1;
+    }
+
+    /**
+     * Returns the index of the first element greater than or equal to the
+     * data in a list that is sorted by the given comparator, or -1 if there
+     * is none.
+     *
+     * O(log n) for all cases.
+     *
+     * @param data       the data to search for
+     * @param comparator the comparator the list is sorted by
+     * @return the index of the ceiling of the data, or -1
+     * @throws java.lang.IllegalArgumentException if data or comparator is
+     *                                            null
+     */
+    public int ceilingIndex(T data, Comparator<? super T> comparator) {
+        int index = lowerBound(data, comparator);
+        return index < size ? index : -1;
+    }
+
     /**
      * Returns the element at the specified index.
      *
@@ -196,16 +491,80 @@ public class ArrayList<T> {
     }
 
     /**
-     * Clears the list. Resets the backing array to a new array of the
-     * initial capacity and resets the size.
+     * Clears the list. Resets the backing array to an empty array of the
+     * policy's initial capacity and resets the size. A backing array that is
+     * already at the initial capacity is reused instead of reallocated.
      *
-     * O(1) for all cases.
+     * O(1) if the backing array is reallocated and O(n) otherwise.
      */
     public void clear() {
-        backingArray = (T[]) new Object[INITIAL_CAPACITY];
+        if (backingArray.length == policy.getInitialCapacity()) {
+            for (int i = 0; i < size; i++) {
+                backingArray[i] = null;
+            }
+        } else {
+            backingArray = (T[]) new Object[policy.getInitialCapacity()];
+        }
         size = 0;
     }
 
+    /**
+     * Grows the backing array, if needed, so that it can hold at least the
+     * given number of elements without another resize. Use this before a
+     * bulk load to pay for a single resize up front.
+     *
+     * O(n) if the backing array is grown and O(1) otherwise.
+     *
+     * @param minCapacity the number of elements the list must be able to hold
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > backingArray.length) {
+            resize(policy.grow(backingArray.length, minCapacity));
+            growCount++;
+        }
+    }
+
+    /**
+     * Shrinks the backing array so that its length is exactly the size of
+     * the list.
+     *
+     * O(n) if the backing array is shrunk and O(1) otherwise.
+     */
+    public void trimToSize() {
+        if (size < backingArray.length) {
+            resize(size);
+            shrinkCount++;
+        }
+    }
+
+    /**
+     * Returns the policy deciding when the backing array is resized.
+     *
+     * @return the capacity policy of the list
+     */
+    public CapacityPolicy getCapacityPolicy() {
+        return policy;
+    }
+
+    /**
+     * Returns the number of times the backing array has grown.
+     *
+     * @return the number of grow events
+     */
+    public int getGrowCount() {
+        return growCount;
+    }
+
+    /**
+     * Returns the number of times the backing array has shrunk, including
+     * calls to trimToSize that shrank it.
+     *
+     * @return the number of shrink events
+     */
+    public int getShrinkCount() {
+        return shrinkCount;
+    }
+
     /**
      * Returns the backing array of the list.
      *
@@ -223,4 +582,229 @@ public class ArrayList<T> {
     public int size() {
         return size;
     }
+
+    /**
+     * Copies the data into a new backing array of the given capacity.
+     *
+     * @param capacity the length of the new backing array
+     */
+    private void resize(int capacity) {
+        T[] oldArray = backingArray;
+        backingArray = (T[]) new Object[capacity];
+        System.arraycopy(oldArray, 0, backingArray, 0, size);
+    }
+
+    /**
+     * Shrinks the backing array if the capacity policy says it has become
+     * too sparse.
+     */
+    private void shrinkIfSparse() {
+        int capacity = policy.shrink(backingArray.length, size);
+        if (capacity < backingArray.length) {
+            resize(capacity);
+            shrinkCount++;
+        }
+    }
+
+    /**
+     * Returns the index of the first element that is not less than the
+     * data, or size if there is none.
+     *
+     * @param data       the data to search for
+     * @param comparator the comparator the list is sorted by
+     * @return the lower bound of the data
+     * @throws java.lang.IllegalArgumentException if data or comparator is
+     *                                            null
+     */
+    private int lowerBound(T data, Comparator<? super T> comparator) {
+        checkSearchArguments(data, comparator);
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(backingArray[mid], data) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first element that is greater than the data,
+     * or size if there is none.
+     *
+     * @param data       the data to search for
+     * @param comparator the comparator the list is sorted by
+     * @return the upper bound of the data
+     * @throws java.lang.IllegalArgumentException if data or comparator is
+     *                                            null
+     */
+    private int upperBound(T data, Comparator<? super T> comparator) {
+        checkSearchArguments(data, comparator);
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(backingArray[mid], data) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Checks the arguments of a binary search.
+     *
+     * @param data       the data to search for
+     * @param comparator the comparator the list is sorted by
+     * @throws java.lang.IllegalArgumentException if data or comparator is
+     *                                            null
+     */
+    private void checkSearchArguments(T data,
+                                      Comparator<? super T> comparator) {
+        if (data == null || comparator == null) {
+            throw new IllegalArgumentException("The data and comparator "
+                    + "cannot be null.");
+        }
+    }
+
+    /**
+     * Returns an iterator over the elements of the list, from index 0 to
+     * index size - 1. The list must not be structurally modified while the
+     * iterator is in use.
+     *
+     * @return an iterator over the list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new ArrayListIterator();
+    }
+
+    /**
+     * Returns a spliterator over the elements of the list. The spliterator
+     * is ORDERED, SIZED, SUBSIZED and NONNULL and splits its range into two
+     * halves, so parallel streams divide the work evenly. The list must not
+     * be structurally modified while the spliterator is in use.
+     *
+     * @return a spliterator over the list
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArrayListSpliterator<>(backingArray, 0, size);
+    }
+
+    /**
+     * Returns a sequential stream over the elements of the list.
+     *
+     * @return a sequential stream over the list
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel stream over the elements of the list.
+     *
+     * @return a parallel stream over the list
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Iterator over the elements of the list in index order.
+     */
+    private class ArrayListIterator implements Iterator<T> {
+
+        private int next;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("The iterator has no more "
+                        + "elements.");
+            }
+            return backingArray[next++];
+        }
+    }
+
+    /**
+     * Spliterator over the range [index, fence) of a backing array.
+     *
+     * @param <E> the type of the elements
+     */
+    private static class ArrayListSpliterator<E> implements Spliterator<E> {
+
+        private final E[] array;
+        private final int fence;
+        private int index;
+
+        /**
+         * Constructs a new ArrayListSpliterator over the given range.
+         *
+         * @param array the backing array to traverse
+         * @param index the first index of the range, inclusive
+         * @param fence the last index of the range, exclusive
+         */
+        ArrayListSpliterator(E[] array, int index, int fence) {
+            this.array = array;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if (action == null) {
+                throw new NullPointerException("The action cannot be null.");
+            }
+            if (index < fence) {
+                action.accept(array[index++]);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            if (action == null) {
+                throw new NullPointerException("The action cannot be null.");
+            }
+            for (int i = index; i < fence; i++) {
+                action.accept(array[i]);
+            }
+            index = fence;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int mid = (index + fence) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            // Hands the first half to the new spliterator and keeps the rest
+            Spliterator<E> prefix = new ArrayListSpliterator<>(array, index,
+                    mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+    }
 }
@@ -1,6 +1,7 @@
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
@@ -225,4 +226,205 @@ public class ArrayListStudentTest {
         assertArrayEquals(new Object[ArrayList.INITIAL_CAPACITY],
                 list.getBackingArray());
     }
-}
\ No newline at end of file
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAll() {
+        list.addToBack("0a");   // 0a
+        java.util.List<String> batch = new java.util.ArrayList<>();
+        for (int i = 1; i < 12; i++) {
+            batch.add(i + "a");
+        }
+        list.addAll(batch);     // 0a, 1a, ..., 11a
+
+        assertEquals(12, list.size());
+        Object[] expected = new Object[ArrayList.INITIAL_CAPACITY * 2];
+        for (int i = 0; i < 12; i++) {
+            expected[i] = i + "a";
+        }
+        assertArrayEquals(expected, list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testInsertAll() {
+        list.addToBack("0a");
+        list.addToBack("3a");   // 0a, 3a
+        list.insertAll(1, new String[] {"1a", "2a"});   // 0a, 1a, 2a, 3a
+
+        assertEquals(4, list.size());
+        Object[] expected = new Object[ArrayList.INITIAL_CAPACITY];
+        expected[0] = "0a";
+        expected[1] = "1a";
+        expected[2] = "2a";
+        expected[3] = "3a";
+        assertArrayEquals(expected, list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testInsertAllNullElement() {
+        list.insertAll(0, new String[] {"0a", null});
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveRange() {
+        for (int i = 0; i < 6; i++) {
+            list.addToBack(i + "a");    // 0a, 1a, 2a, 3a, 4a, 5a
+        }
+        list.removeRange(1, 4);         // 0a, 4a, 5a
+
+        assertEquals(3, list.size());
+        Object[] expected = new Object[ArrayList.INITIAL_CAPACITY];
+        expected[0] = "0a";
+        expected[1] = "4a";
+        expected[2] = "5a";
+        assertArrayEquals(expected, list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testReplaceAll() {
+        list.addToBack("0a");
+        list.addToBack("1a");   // 0a, 1a
+        list.replaceAll(s -> s.replace('a', 'b'));  // 0b, 1b
+
+        assertEquals("0b", list.get(0));
+        assertEquals("1b", list.get(1));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIterator() {
+        list.addToBack("0a");
+        list.addToBack("1a");
+        list.addToBack("2a");   // 0a, 1a, 2a
+
+        StringBuilder joined = new StringBuilder();
+        for (String s : list) {
+            joined.append(s);
+        }
+        assertEquals("0a1a2a", joined.toString());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSpliterator() {
+        for (int i = 0; i < 10; i++) {
+            list.addToBack(i + "a");
+        }
+        java.util.Spliterator<String> right = list.spliterator();
+        java.util.Spliterator<String> left = right.trySplit();
+        assertEquals(5, left.estimateSize());
+        assertEquals(5, right.estimateSize());
+        assertTrue(right.hasCharacteristics(java.util.Spliterator.SUBSIZED));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testParallelStream() {
+        for (int i = 0; i < 1000; i++) {
+            list.addToBack(Integer.toString(i));
+        }
+        assertEquals(499500, list.parallelStream()
+                .mapToInt(Integer::parseInt).sum());
+        assertEquals("0", list.stream().findFirst().get());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testInsertSorted() {
+        java.util.Comparator<String> order = String::compareTo;
+        assertEquals(0, list.insertSorted("2a", order));    // 2a
+        assertEquals(0, list.insertSorted("0a", order));    // 0a, 2a
+        assertEquals(2, list.insertSorted("4a", order));    // 0a, 2a, 4a
+        assertEquals(1, list.insertSorted("1a", order));    // 0a, 1a, 2a, 4a
+        assertEquals(3, list.insertSorted("3a", order));    // 0a, ..., 4a
+
+        Object[] expected = new Object[ArrayList.INITIAL_CAPACITY];
+        for (int i = 0; i < 5; i++) {
+            expected[i] = i + "a";
+        }
+        assertArrayEquals(expected, list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSortedSearch() {
+        java.util.Comparator<String> order = String::compareTo;
+        list.addToBack("1a");
+        list.addToBack("3a");
+        list.addToBack("3a");
+        list.addToBack("5a");   // 1a, 3a, 3a, 5a
+
+        assertEquals(1, list.indexOf("3a", order));
+        assertEquals(-1, list.indexOf("2a", order));
+        assertTrue(list.contains("5a", order));
+        assertFalse(list.contains("6a", order));
+        assertEquals(2, list.floorIndex("3a", order));
+        assertEquals(2, list.floorIndex("4a", order));
+        assertEquals(-1, list.floorIndex("0a", order));
+        assertEquals(1, list.ceilingIndex("2a", order));
+        assertEquals(-1, list.ceilingIndex("6a", order));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMergeSortedBatch() {
+        java.util.Comparator<String> order = String::compareTo;
+        list.addToBack("1a");
+        list.addToBack("4a");
+        list.addToBack("6a");   // 1a, 4a, 6a
+        list.mergeSortedBatch(new String[] {"0a", "2a", "3a", "5a", "7a",
+            "8a", "9a"}, order);
+
+        assertEquals(10, list.size());
+        Object[] expected = new Object[ArrayList.INITIAL_CAPACITY * 2];
+        for (int i = 0; i < 10; i++) {
+            expected[i] = i + "a";
+        }
+        assertArrayEquals(expected, list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testMergeUnsortedBatch() {
+        list.mergeSortedBatch(new String[] {"1a", "0a"}, String::compareTo);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testCapacityPolicy() {
+        list = new ArrayList<>(new CapacityPolicy(2.0, 0.25, 4));
+        for (int i = 0; i < 9; i++) {
+            list.addToBack(i + "a");
+        }
+        // 4 grows to 8 on the 5th add and to 16 on the 9th
+        assertEquals(2, list.getGrowCount());
+        Object[] backingArray = list.getBackingArray();
+        assertEquals(16, backingArray.length);
+
+        for (int i = 8; i > 4; i--) {
+            assertEquals(i + "a", list.removeFromBack());
+        }
+        // 5 of 16 slots in use is above the threshold
+        assertEquals(0, list.getShrinkCount());
+        assertEquals("4a", list.removeFromBack());
+        // 4 of 16 slots in use is at the threshold, so the array shrinks
+        assertEquals(1, list.getShrinkCount());
+        Object[] expected = new Object[8];
+        for (int i = 0; i < 4; i++) {
+            expected[i] = i + "a";
+        }
+        assertArrayEquals(expected, list.getBackingArray());
+
+        list.removeFromFront();
+        list.removeFromFront();   // 2a, 3a
+        assertEquals(2, list.getShrinkCount());
+        backingArray = list.getBackingArray();
+        assertArrayEquals(new Object[] {"2a", "3a", null, null},
+                backingArray);
+
+        // The array is at the initial capacity, so clear reuses it
+        list.clear();
+        assertEquals(0, list.size());
+        assertSame(backingArray, list.getBackingArray());
+        assertArrayEquals(new Object[4], backingArray);
+
+        list.ensureCapacity(10);
+        assertEquals(3, list.getGrowCount());
+        backingArray = list.getBackingArray();
+        assertEquals(10, backingArray.length);
+        list.clear();
+        assertNotSame(backingArray, list.getBackingArray());
+        assertArrayEquals(new Object[4], list.getBackingArray());
+    }
+}
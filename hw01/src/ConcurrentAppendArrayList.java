@@ -0,0 +1,152 @@
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The implementation of a ConcurrentAppendArrayList, which is an append-only
+ * ArrayList that any number of threads can add to at once without locking.
+ *
+ * The data lives in a fixed directory of segments whose lengths double:
+ * segment s holds FIRST_SEGMENT_LENGTH * 2^s elements. Segments are
+ * allocated lazily by whichever thread first needs them, so growing the list
+ * never copies data. An append reserves its index with a compare-and-set on
+ * the size counter and then publishes its data into that slot.
+ *
+ * Reads are wait-free. Because a reserved slot is published a moment after
+ * it is reserved, get returns null for an index whose append is still in
+ * flight; once every producer has returned, every index below size holds
+ * its data.
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ * @userid mnamgoong3
+ * @GTID 903684766
+ */
+public class ConcurrentAppendArrayList<T> {
+
+    /**
+     * The length of the first segment. Must be a power of two.
+     */
+    public static final int FIRST_SEGMENT_LENGTH = 16;
+
+    private static final int FIRST_SEGMENT_SHIFT =
+            Integer.numberOfTrailingZeros(FIRST_SEGMENT_LENGTH);
+    private static final int SEGMENT_COUNT = Integer.SIZE - 1
+            - FIRST_SEGMENT_SHIFT;
+    private static final int MAX_SIZE = Integer.MAX_VALUE
+            - FIRST_SEGMENT_LENGTH;
+
+    private final AtomicReferenceArray<AtomicReferenceArray<T>> segments;
+    private final AtomicInteger size;
+
+    /**
+     * Constructs a new ConcurrentAppendArrayList. No segment is allocated
+     * until the first append.
+     */
+    public ConcurrentAppendArrayList() {
+        segments = new AtomicReferenceArray<>(SEGMENT_COUNT);
+        size = new AtomicInteger();
+    }
+
+    /**
+     * Adds a new element to the back of the list. Safe to call from any
+     * number of threads at once; appends never block one another.
+     *
+     * O(1) for all cases, plus retries of the compare-and-set under
+     * contention.
+     *
+     * @param data the data to add to the back of the list
+     * @return the index the data was added at
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.lang.IllegalStateException    if the list is full
+     */
+    public int addToBack(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot insert null data into "
+                    + "the data structure.");
+        }
+        int index;
+        do {
+            index = size.get();
+            if (index == MAX_SIZE) {
+                throw new IllegalStateException("The list cannot grow past "
+                        + MAX_SIZE + " elements.");
+            }
+        } while (!size.compareAndSet(index, index + 1));
+        int position = index + FIRST_SEGMENT_LENGTH;
+        int segment = segmentOf(position);
+        AtomicReferenceArray<T> array = segments.get(segment);
+        if (array == null) {
+            AtomicReferenceArray<T> fresh =
+                    new AtomicReferenceArray<>(FIRST_SEGMENT_LENGTH << segment);
+            // Keeps whichever segment another thread installed first
+            if (segments.compareAndSet(segment, null, fresh)) {
+                array = fresh;
+            } else {
+                array = segments.get(segment);
+            }
+        }
+        array.setRelease(position - (FIRST_SEGMENT_LENGTH << segment), data);
+        return index;
+    }
+
+    /**
+     * Returns the element at the specified index, or null if the append that
+     * reserved the index has not published its data yet. Never blocks or
+     * retries.
+     *
+     * O(1) for all cases.
+     *
+     * @param index the index of the element to get
+     * @return the data stored at the index in the list, or null if it is not
+     * published yet
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T get(int index) {
+        int currentSize = size.get();
+        if (index < 0 || index >= currentSize) {
+            throw new IndexOutOfBoundsException("The index cannot be less than "
+                    + "0 or greater than or equal to " + currentSize + ".");
+        }
+        int position = index + FIRST_SEGMENT_LENGTH;
+        int segment = segmentOf(position);
+        AtomicReferenceArray<T> array = segments.getAcquire(segment);
+        if (array == null) {
+            return null;
+        }
+        return array.getAcquire(position
+                - (FIRST_SEGMENT_LENGTH << segment));
+    }
+
+    /**
+     * Returns whether or not the list is empty.
+     *
+     * O(1) for all cases.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size.get() == 0;
+    }
+
+    /**
+     * Returns the size of the list, which counts every reserved index,
+     * including appends that are still in flight.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Returns the segment holding the given position, where a position is
+     * an index offset by the length of the first segment.
+     *
+     * @param position the index plus FIRST_SEGMENT_LENGTH
+     * @return the segment the position falls in
+     */
+    private static int segmentOf(int position) {
+        return Integer.SIZE - 1 - Integer.numberOfLeadingZeros(position)
+                - FIRST_SEGMENT_SHIFT;
+    }
+}
@@ -0,0 +1,72 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * This is a basic set of unit tests for ConcurrentAppendArrayList.
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ */
+public class ConcurrentAppendArrayListStudentTest {
+
+    private static final int TIMEOUT = 5000;
+    private ConcurrentAppendArrayList<Integer> list;
+
+    @Before
+    public void setUp() {
+        list = new ConcurrentAppendArrayList<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddToBack() {
+        assertTrue(list.isEmpty());
+        // Spans several segments: 16, 32, 64, ...
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, list.addToBack(i));
+        }
+        assertEquals(1000, list.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(Integer.valueOf(i), list.get(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testConcurrentProducers() throws InterruptedException {
+        int producers = 8;
+        int perProducer = 20000;
+        Thread[] threads = new Thread[producers];
+        for (int t = 0; t < producers; t++) {
+            int id = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    list.addToBack(id * perProducer + i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(producers * perProducer, list.size());
+        boolean[] seen = new boolean[producers * perProducer];
+        for (int i = 0; i < list.size(); i++) {
+            Integer data = list.get(i);
+            assertNotNull(data);
+            seen[data] = true;
+        }
+        for (boolean b : seen) {
+            assertTrue(b);
+        }
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        list.addToBack(0);
+        list.get(1);
+    }
+}
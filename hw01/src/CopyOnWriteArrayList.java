@@ -0,0 +1,272 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * The implementation of a CopyOnWriteArrayList, which is a thread-safe
+ * ArrayList for data that is read far more often than it is written.
+ *
+ * The data lives in an immutable snapshot array whose length is exactly the
+ * size of the list. Reads never lock: they read the current snapshot from a
+ * volatile field. Writers take a lock, copy the snapshot with their change
+ * applied, and publish the copy by writing it to the volatile field, so a
+ * reader always sees either the whole write or none of it. Use mutate to
+ * apply a batch of writes with a single copy.
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ * @userid mnamgoong3
+ * @GTID 903684766
+ */
+public class CopyOnWriteArrayList<T> {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile T[] snapshot;
+
+    /**
+     * Constructs a new CopyOnWriteArrayList. The snapshot is an empty array.
+     */
+    public CopyOnWriteArrayList() {
+        snapshot = (T[]) new Object[0];
+    }
+
+    /**
+     * Adds a new element to the specified index. Publishes a copy of the
+     * snapshot with the element inserted.
+     *
+     * O(n) for all cases.
+     *
+     * @param index the index at which to add the new element
+     * @param data  the data to add at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index > size
+     * @throws java.lang.IllegalArgumentException  if data is null
+     */
+    public void addAtIndex(int index, T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot insert null data into "
+                    + "the data structure.");
+        }
+        lock.lock();
+        try {
+            T[] current = snapshot;
+            if (index < 0 || index > current.length) {
+                throw new IndexOutOfBoundsException("The index cannot be less "
+                        + "than 0 or greater than " + current.length + ".");
+            }
+            T[] copy = (T[]) new Object[current.length + 1];
+            System.arraycopy(current, 0, copy, 0, index);
+            System.arraycopy(current, index, copy, index + 1,
+                    current.length - index);
+            copy[index] = data;
+            snapshot = copy;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds a new element to the front of the list.
+     *
+     * O(n) for all cases.
+     *
+     * @param data the data to add to the front of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToFront(T data) {
+        addAtIndex(0, data);
+    }
+
+    /**
+     * Adds a new element to the back of the list.
+     *
+     * O(n) for all cases.
+     *
+     * @param data the data to add to the back of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToBack(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot insert null data into "
+                    + "the data structure.");
+        }
+        lock.lock();
+        try {
+            T[] current = snapshot;
+            T[] copy = Arrays.copyOf(current, current.length + 1);
+            copy[current.length] = data;
+            snapshot = copy;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the element at the specified index. Publishes a
+     * copy of the snapshot with the element removed.
+     *
+     * O(n) for all cases.
+     *
+     * @param index the index of the element to remove
+     * @return the data formerly located at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T removeAtIndex(int index) {
+        lock.lock();
+        try {
+            T[] current = snapshot;
+            if (index < 0 || index >= current.length) {
+                throw new IndexOutOfBoundsException("The index cannot be less "
+                        + "than 0 or greater than or equal to "
+                        + current.length + ".");
+            }
+            T[] copy = (T[]) new Object[current.length - 1];
+            System.arraycopy(current, 0, copy, 0, index);
+            System.arraycopy(current, index + 1, copy, index,
+                    current.length - index - 1);
+            snapshot = copy;
+            return current[index];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the first element of the list.
+     *
+     * O(n) for all cases.
+     *
+     * @return the data formerly located at the front of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public T removeFromFront() {
+        lock.lock();
+        try {
+            if (isEmpty()) {
+                throw new NoSuchElementException("The list is empty so there "
+                        + "is no element to remove.");
+            }
+            return removeAtIndex(0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the last element of the list.
+     *
+     * O(n) for all cases.
+     *
+     * @return the data formerly located at the back of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public T removeFromBack() {
+        lock.lock();
+        try {
+            if (isEmpty()) {
+                throw new NoSuchElementException("The list is empty so there "
+                        + "is no element to remove.");
+            }
+            return removeAtIndex(snapshot.length - 1);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Applies a batch of writes to the list with a single copy. The mutator
+     * receives an ArrayList whose backing array is a copy of the snapshot;
+     * whatever it holds when the mutator returns is published as the new
+     * snapshot. That backing array is published as is, and only copied again
+     * if the batch left it with spare room, as when it grew or removed data.
+     * The working list is emptied and given a new backing array before the
+     * snapshot is published, so a mutator that keeps a reference to it can
+     * never write to a published snapshot. Readers never see any of the
+     * batch until all of it is published. If the mutator throws, nothing is
+     * published.
+     *
+     * O(n + w), where w is the cost of the writes in the batch.
+     *
+     * @param mutator the batch of writes to apply
+     * @throws java.lang.IllegalArgumentException if mutator is null
+     */
+    public void mutate(Consumer<ArrayList<T>> mutator) {
+        if (mutator == null) {
+            throw new IllegalArgumentException("The mutator cannot be null.");
+        }
+        lock.lock();
+        try {
+            T[] current = snapshot;
+            ArrayList<T> working = new ArrayList<>(
+                    Arrays.copyOf(current, current.length),
+                    CapacityPolicy.DEFAULT);
+            mutator.accept(working);
+            snapshot = working.detach();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the element at the specified index. Does not lock.
+     *
+     * O(1) for all cases.
+     *
+     * @param index the index of the element to get
+     * @return the data stored at the index in the list
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T get(int index) {
+        T[] current = snapshot;
+        if (index < 0 || index >= current.length) {
+            throw new IndexOutOfBoundsException("The index cannot be less than "
+                    + "0 or greater than or equal to " + current.length + ".");
+        }
+        return current[index];
+    }
+
+    /**
+     * Returns whether or not the list is empty. Does not lock.
+     *
+     * O(1) for all cases.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return snapshot.length == 0;
+    }
+
+    /**
+     * Clears the list by publishing an empty snapshot.
+     *
+     * O(1) for all cases.
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            snapshot = (T[]) new Object[0];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the current snapshot of the list. The snapshot is never
+     * modified, so it can be read without locking for as long as it is
+     * needed, but it does not reflect later writes. Do not modify it.
+     *
+     * @return the array of length size holding the data in the list
+     */
+    public T[] getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Returns the size of the list. Does not lock.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return snapshot.length;
+    }
+}
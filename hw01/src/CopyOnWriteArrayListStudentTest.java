@@ -0,0 +1,139 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * This is a basic set of unit tests for CopyOnWriteArrayList.
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ */
+public class CopyOnWriteArrayListStudentTest {
+
+    private static final int TIMEOUT = 2000;
+    private CopyOnWriteArrayList<String> list;
+
+    @Before
+    public void setUp() {
+        list = new CopyOnWriteArrayList<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAndRemove() {
+        list.addToBack("1a");       // 1a
+        list.addToFront("0a");      // 0a, 1a
+        list.addAtIndex(2, "3a");   // 0a, 1a, 3a
+        list.addAtIndex(2, "2a");   // 0a, 1a, 2a, 3a
+        assertArrayEquals(new Object[] {"0a", "1a", "2a", "3a"},
+                list.getSnapshot());
+
+        assertEquals("1a", list.removeAtIndex(1));  // 0a, 2a, 3a
+        assertEquals("0a", list.removeFromFront()); // 2a, 3a
+        assertEquals("3a", list.removeFromBack());  // 2a
+        assertEquals(1, list.size());
+        assertEquals("2a", list.get(0));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSnapshotIsolation() {
+        list.addToBack("0a");
+        Object[] before = list.getSnapshot();
+        list.addToBack("1a");
+
+        assertArrayEquals(new Object[] {"0a"}, before);
+        assertNotSame(before, list.getSnapshot());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMutate() {
+        list.addToBack("0a");
+        Object[] before = list.getSnapshot();
+        list.mutate(working -> {
+            for (int i = 1; i < 20; i++) {
+                working.addToBack(i + "a");
+            }
+            working.removeFromFront();
+        });
+        assertEquals(19, list.size());
+        assertEquals("1a", list.get(0));
+        assertEquals("19a", list.get(18));
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertArrayEquals(new Object[] {"0a"}, before);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMutateCopiesSnapshot() {
+        for (int i = 0; i < 4; i++) {
+            list.addToBack(i + "a");
+        }
+        Object[] before = list.getSnapshot();
+        list.mutate(working -> working.replaceAll(data -> data + "!"));
+        // The batch wrote to a copy, never to the published snapshot
+        assertArrayEquals(new Object[] {"0a", "1a", "2a", "3a"}, before);
+        assertArrayEquals(new Object[] {"0a!", "1a!", "2a!", "3a!"},
+                list.getSnapshot());
+
+        list.mutate(working -> working.removeRange(1, 3));
+        // The spare room left by the removal is trimmed off
+        assertArrayEquals(new Object[] {"0a!", "3a!"}, list.getSnapshot());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMutatorKeepsWorkingList() {
+        list.addToBack("0a");
+        java.util.List<ArrayList<String>> kept = new java.util.ArrayList<>();
+        list.mutate(working -> {
+            working.addToBack("1a");
+            kept.add(working);
+        });
+        Object[] published = list.getSnapshot();
+        assertArrayEquals(new Object[] {"0a", "1a"}, published);
+
+        // Writes through the kept list never reach the published snapshot
+        ArrayList<String> leaked = kept.get(0);
+        assertEquals(0, leaked.size());
+        leaked.addToBack("x");
+        leaked.replaceAll(data -> data + "!");
+        leaked.removeFromBack();
+        assertArrayEquals(new Object[] {"0a", "1a"}, published);
+        assertSame(published, list.getSnapshot());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMutateFailurePublishesNothing() {
+        list.addToBack("0a");
+        Object[] before = list.getSnapshot();
+        try {
+            list.mutate(working -> {
+                working.addToBack("1a");
+                throw new IllegalStateException();
+            });
+        } catch (IllegalStateException e) {
+            assertSame(before, list.getSnapshot());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testConcurrentWriters() throws InterruptedException {
+        Thread[] writers = new Thread[4];
+        for (int t = 0; t < writers.length; t++) {
+            writers[t] = new Thread(() -> {
+                for (int i = 0; i < 250; i++) {
+                    list.addToBack("x");
+                }
+            });
+            writers[t].start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        assertEquals(1000, list.size());
+    }
+}
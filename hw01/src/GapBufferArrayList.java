@@ -0,0 +1,283 @@
+import java.util.NoSuchElementException;
+
+/**
+ * The implementation of a GapBufferArrayList, which is a list data structure
+ * backed by an array that contains a single gap of unused positions. The
+ * data before the gap is aligned with index 0 of the array and the data
+ * after the gap is aligned with the end of the array.
+ *
+ * Adds and removes happen at the gap, so a run of edits around the same
+ * index (the cursor) only pays for moving the gap once, after which each
+ * edit is O(1). Moving the gap is a single block copy of the data between
+ * the old and new cursor positions.
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ * @userid mnamgoong3
+ * @GTID 903684766
+ */
+public class GapBufferArrayList<T> {
+
+    /**
+     * The initial capacity of the GapBufferArrayList.
+     */
+    public static final int INITIAL_CAPACITY = 9;
+
+    private T[] backingArray;
+    private int gapStart;
+    private int gapEnd;
+
+    /**
+     * Constructs a new GapBufferArrayList. The backing array is an empty array
+     * of the initial capacity and the gap spans the entire array.
+     */
+    public GapBufferArrayList() {
+        backingArray = (T[]) new Object[INITIAL_CAPACITY];
+        gapStart = 0;
+        gapEnd = INITIAL_CAPACITY;
+    }
+
+    /**
+     * Adds a new element to the specified index by moving the gap to the
+     * index and filling its first position. If the gap is empty, the backing
+     * array is resized to twice its old capacity.
+     *
+     * Amortized O(1) if index is the cursor and O(d) otherwise, where d is
+     * the distance between the index and the cursor.
+     *
+     * @param index the index at which to add the new element
+     * @param data  the data to add at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index > size
+     * @throws java.lang.IllegalArgumentException  if data is null
+     */
+    public void addAtIndex(int index, T data) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("The index cannot be less than "
+                    + "0 or greater than " + size() + ".");
+        }
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot insert null data into "
+                    + "the data structure.");
+        }
+        if (gapStart == gapEnd) {
+            resize(backingArray.length * 2);
+        }
+        moveGap(index);
+        backingArray[gapStart] = data;
+        gapStart++;
+    }
+
+    /**
+     * Adds a new element to the front of the list.
+     *
+     * Amortized O(1) if the cursor is at the front and O(n) otherwise.
+     *
+     * @param data the data to add to the front of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToFront(T data) {
+        addAtIndex(0, data);
+    }
+
+    /**
+     * Adds a new element to the back of the list.
+     *
+     * Amortized O(1) if the cursor is at the back and O(n) otherwise.
+     *
+     * @param data the data to add to the back of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToBack(T data) {
+        addAtIndex(size(), data);
+    }
+
+    /**
+     * Removes and returns the element at the specified index by moving the
+     * gap to the index and absorbing the element into it. The removed
+     * position is set to null.
+     *
+     * O(1) if index is the cursor and O(d) otherwise, where d is the distance
+     * between the index and the cursor.
+     *
+     * @param index the index of the element to remove
+     * @return the data formerly located at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T removeAtIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("The index cannot be less than "
+                    + "0 or greater than or equal to " + size() + ".");
+        }
+        moveGap(index);
+        T removed = backingArray[gapEnd];
+        backingArray[gapEnd] = null;
+        gapEnd++;
+        return removed;
+    }
+
+    /**
+     * Removes and returns the first element of the list.
+     *
+     * O(1) if the cursor is at the front and O(n) otherwise.
+     *
+     * @return the data formerly located at the front of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public T removeFromFront() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("The list is empty so there is "
+                    + "no element to remove.");
+        }
+        return removeAtIndex(0);
+    }
+
+    /**
+     * Removes and returns the last element of the list.
+     *
+     * O(1) if the cursor is at the back and O(n) otherwise.
+     *
+     * @return the data formerly located at the back of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public T removeFromBack() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("The list is empty so there is "
+                    + "no element to remove.");
+        }
+        return removeAtIndex(size() - 1);
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * O(1) for all cases.
+     *
+     * @param index the index of the element to get
+     * @return the data stored at the index in the list
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("The index cannot be less than "
+                    + "0 or greater than or equal to " + size() + ".");
+        }
+        if (index < gapStart) {
+            return backingArray[index];
+        }
+        return backingArray[index + gapEnd - gapStart];
+    }
+
+    /**
+     * Returns whether or not the list is empty.
+     *
+     * O(1) for all cases.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Clears the list. Resets the backing array to a new array of the
+     * initial capacity and resets the gap to span the entire array.
+     *
+     * O(1) for all cases.
+     */
+    public void clear() {
+        backingArray = (T[]) new Object[INITIAL_CAPACITY];
+        gapStart = 0;
+        gapEnd = INITIAL_CAPACITY;
+    }
+
+    /**
+     * Returns an array representation of the list with the gap removed.
+     *
+     * O(n) for all cases.
+     *
+     * @return the array of length size holding all of the data in the list
+     * in the same order
+     */
+    public T[] toArray() {
+        T[] array = (T[]) new Object[size()];
+        System.arraycopy(backingArray, 0, array, 0, gapStart);
+        System.arraycopy(backingArray, gapEnd, array, gapStart,
+                backingArray.length - gapEnd);
+        return array;
+    }
+
+    /**
+     * Returns the cursor, which is the index at which the gap currently sits.
+     *
+     * @return the index of the first position of the gap
+     */
+    public int getCursor() {
+        return gapStart;
+    }
+
+    /**
+     * Returns the backing array of the list, gap included.
+     *
+     * @return the backing array of the list
+     */
+    public T[] getBackingArray() {
+        return backingArray;
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return backingArray.length - (gapEnd - gapStart);
+    }
+
+    /**
+     * Moves the gap so that it starts at the given index. The data between
+     * the old and new positions is moved across the gap with one block copy
+     * and the positions it leaves behind are set to null.
+     *
+     * @param index the new start of the gap
+     */
+    private void moveGap(int index) {
+        if (index < gapStart) {
+            int count = gapStart - index;
+            System.arraycopy(backingArray, index, backingArray,
+                    gapEnd - count, count);
+            // Clears whatever part of the moved block is now inside the gap
+            int clearEnd = Math.min(gapStart, gapEnd - count);
+            for (int i = index; i < clearEnd; i++) {
+                backingArray[i] = null;
+            }
+            gapStart -= count;
+            gapEnd -= count;
+        } else if (index > gapStart) {
+            int count = index - gapStart;
+            System.arraycopy(backingArray, gapEnd, backingArray, gapStart,
+                    count);
+            int clearStart = Math.max(gapEnd, index);
+            for (int i = clearStart; i < gapEnd + count; i++) {
+                backingArray[i] = null;
+            }
+            gapStart += count;
+            gapEnd += count;
+        }
+    }
+
+    /**
+     * Resizes the backing array to the given capacity, keeping the data
+     * before the gap at the front and the data after the gap at the back.
+     *
+     * @param capacity the new length of the backing array
+     */
+    private void resize(int capacity) {
+        T[] oldArray = backingArray;
+        int tail = oldArray.length - gapEnd;
+        backingArray = (T[]) new Object[capacity];
+        System.arraycopy(oldArray, 0, backingArray, 0, gapStart);
+        System.arraycopy(oldArray, gapEnd, backingArray, capacity - tail,
+                tail);
+        gapEnd = capacity - tail;
+    }
+}
@@ -0,0 +1,119 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * This is a basic set of unit tests for GapBufferArrayList.
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ */
+public class GapBufferArrayListStudentTest {
+
+    private static final int TIMEOUT = 200;
+    private GapBufferArrayList<String> list;
+
+    @Before
+    public void setUp() {
+        list = new GapBufferArrayList<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testInitialization() {
+        assertEquals(0, list.size());
+        assertArrayEquals(new Object[GapBufferArrayList.INITIAL_CAPACITY],
+                list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAtIndex() {
+        list.addAtIndex(0, "2a");   // 2a
+        list.addAtIndex(0, "1a");   // 1a, 2a
+        list.addAtIndex(2, "4a");   // 1a, 2a, 4a
+        list.addAtIndex(2, "3a");   // 1a, 2a, 3a, 4a
+        list.addAtIndex(0, "0a");   // 0a, 1a, 2a, 3a, 4a
+
+        assertEquals(5, list.size());
+        assertEquals(1, list.getCursor());
+        assertArrayEquals(new Object[] {"0a", "1a", "2a", "3a", "4a"},
+                list.toArray());
+
+        // The gap sits right after the last insertion
+        Object[] expected = new Object[GapBufferArrayList.INITIAL_CAPACITY];
+        expected[0] = "0a";
+        expected[5] = "1a";
+        expected[6] = "2a";
+        expected[7] = "3a";
+        expected[8] = "4a";
+        assertArrayEquals(expected, list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testResize() {
+        for (int i = 0; i < GapBufferArrayList.INITIAL_CAPACITY; i++) {
+            list.addToBack(i + "a");
+        }
+        list.addAtIndex(4, "x");
+        assertEquals(GapBufferArrayList.INITIAL_CAPACITY + 1, list.size());
+        Object[] backingArray = list.getBackingArray();
+        assertEquals(GapBufferArrayList.INITIAL_CAPACITY * 2,
+                backingArray.length);
+        assertArrayEquals(new Object[] {"0a", "1a", "2a", "3a", "x", "4a",
+            "5a", "6a", "7a", "8a"}, list.toArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveAtIndex() {
+        for (int i = 0; i < 6; i++) {
+            list.addToBack(i + "a");    // 0a, 1a, 2a, 3a, 4a, 5a
+        }
+        assertEquals("4a", list.removeAtIndex(4));  // 0a, 1a, 2a, 3a, 5a
+        assertEquals("1a", list.removeAtIndex(1));  // 0a, 2a, 3a, 5a
+        assertEquals("0a", list.removeFromFront()); // 2a, 3a, 5a
+        assertEquals("5a", list.removeFromBack());  // 2a, 3a
+
+        assertEquals(2, list.size());
+        assertArrayEquals(new Object[] {"2a", "3a"}, list.toArray());
+        Object[] backingArray = list.getBackingArray();
+        int nonNull = 0;
+        for (Object o : backingArray) {
+            if (o != null) {
+                nonNull++;
+            }
+        }
+        assertEquals(2, nonNull);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testCursorEdits() {
+        java.util.ArrayList<String> expected = new java.util.ArrayList<>();
+        int cursor = 0;
+        for (int i = 0; i < 200; i++) {
+            if (i % 7 == 3 && !expected.isEmpty()) {
+                cursor = Math.min(cursor, expected.size() - 1);
+                assertEquals(expected.remove(cursor),
+                        list.removeAtIndex(cursor));
+            } else {
+                expected.add(cursor, "e" + i);
+                list.addAtIndex(cursor, "e" + i);
+                cursor = (cursor * 5 + 3) % (expected.size() + 1);
+            }
+        }
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testClear() {
+        list.addToBack("0a");
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertArrayEquals(new Object[GapBufferArrayList.INITIAL_CAPACITY],
+                list.getBackingArray());
+    }
+}
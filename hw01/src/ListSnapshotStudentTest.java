@@ -0,0 +1,97 @@
+import static org.junit.Assert.assertEquals;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This is a basic set of unit tests for ListSnapshot.
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ */
+public class ListSnapshotStudentTest {
+
+    private static final int TIMEOUT = 2000;
+    private Path file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = Files.createTempFile("list", ".snapshot");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRoundTrip() throws IOException {
+        // Spans several blocks
+        ArrayList<Long> list = new ArrayList<>();
+        for (long i = 0; i < 20000; i++) {
+            list.addToBack(i * 31);
+        }
+        ListSnapshot.write(list, ElementCodec.LONG, file);
+        ArrayList<Long> restored = ListSnapshot.read(ElementCodec.LONG, file);
+
+        // The backing array is sized exactly once, up front
+        Object[] backingArray = restored.getBackingArray();
+        assertEquals(20000, restored.size());
+        assertEquals(20000, backingArray.length);
+        assertEquals(1, restored.getGrowCount());
+        for (int i = 0; i < 20000; i++) {
+            assertEquals(list.get(i), restored.get(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testEmpty() throws IOException {
+        ListSnapshot.write(new ArrayList<Integer>(), ElementCodec.INT, file);
+        assertEquals(0, ListSnapshot.read(ElementCodec.INT, file).size());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IOException.class)
+    public void testWrongWidth() throws IOException {
+        ArrayList<Integer> list = new ArrayList<>();
+        list.addToBack(1);
+        ListSnapshot.write(list, ElementCodec.INT, file);
+        ListSnapshot.read(ElementCodec.LONG, file);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IOException.class)
+    public void testCorruptSize() throws IOException {
+        ArrayList<Integer> list = new ArrayList<>();
+        list.addToBack(1);
+        ListSnapshot.write(list, ElementCodec.INT, file);
+        // Claims far more elements than the file holds
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN)
+                    .putInt(0, Integer.MAX_VALUE), 12);
+        }
+        ListSnapshot.read(ElementCodec.INT, file);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IOException.class)
+    public void testTruncated() throws IOException {
+        ArrayList<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.addToBack(i);
+        }
+        ListSnapshot.write(list, ElementCodec.INT, file);
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 8);
+        }
+        ListSnapshot.read(ElementCodec.INT, file);
+    }
+}
@@ -0,0 +1,240 @@
+import java.util.NoSuchElementException;
+
+/**
+ * The implementation of a LongArrayList, which is an ArrayList specialized
+ * for long data. The data is stored unboxed in a long[] backing array where
+ * all of the data is contiguous and aligned with index 0 of the array.
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ * @userid mnamgoong3
+ * @GTID 903684766
+ */
+public class LongArrayList {
+
+    /**
+     * The initial capacity of the LongArrayList.
+     */
+    public static final int INITIAL_CAPACITY = 9;
+
+    private long[] backingArray;
+    private int size;
+
+    /**
+     * Constructs a new LongArrayList. The backing array is an empty array of
+     * the initial capacity.
+     */
+    public LongArrayList() {
+        backingArray = new long[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Adds a new element to the specified index while shifting current
+     * elements as necessary to maintain the order of the list. If the
+     * LongArrayList does not have enough space, it is resized to twice its
+     * old capacity.
+     *
+     * Amortized O(1) for index size and O(n) for all other cases.
+     *
+     * @param index the index at which to add the new element
+     * @param data  the data to add at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index > size
+     */
+    public void addAtIndex(int index, long data) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("The index cannot be less than "
+                    + "0 or greater than " + size + ".");
+        }
+        if (size == backingArray.length) {
+            long[] oldArray = backingArray;
+            // Resizes the LongArrayList to twice its old capacity
+            backingArray = new long[size * 2];
+            System.arraycopy(oldArray, 0, backingArray, 0, size);
+        }
+        // Shifts subsequent elements backward by one position
+        System.arraycopy(backingArray, index, backingArray, index + 1,
+                size - index);
+        backingArray[index] = data;
+        size++;
+    }
+
+    /**
+     * Adds a new element to the front of the list.
+     *
+     * O(n) for all cases.
+     *
+     * @param data the data to add to the front of the list
+     */
+    public void addToFront(long data) {
+        addAtIndex(0, data);
+    }
+
+    /**
+     * Adds a new element to the back of the list.
+     *
+     * Amortized O(1).
+     *
+     * @param data the data to add to the back of the list
+     */
+    public void addToBack(long data) {
+        addAtIndex(size, data);
+    }
+
+    /**
+     * Removes and returns the element at the specified index. Shifts current
+     * elements as necessary to maintain the order of the list. All unused
+     * positions are set to 0.
+     *
+     * O(1) for index size - 1 and O(n) for all other cases.
+     *
+     * @param index the index of the element to remove
+     * @return the data formerly located at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public long removeAtIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The index cannot be less than "
+                    + "0 or greater than or equal to " + size + ".");
+        }
+        long removed = backingArray[index];
+        // Shifts subsequent elements forward by one position
+        System.arraycopy(backingArray, index + 1, backingArray, index,
+                size - index - 1);
+        backingArray[size - 1] = 0;
+        size--;
+        return removed;
+    }
+
+    /**
+     * Removes and returns the first element of the list.
+     *
+     * O(n) for all cases.
+     *
+     * @return the data formerly located at the front of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public long removeFromFront() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("The list is empty so there is "
+                    + "no element to remove.");
+        }
+        return removeAtIndex(0);
+    }
+
+    /**
+     * Removes and returns the last element of the list.
+     *
+     * O(1) for all cases.
+     *
+     * @return the data formerly located at the back of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public long removeFromBack() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("The list is empty so there is "
+                    + "no element to remove.");
+        }
+        return removeAtIndex(size - 1);
+    }
+
+    /**
+     * Returns the element at the specified index as a boxed Long. Prefer
+     * getLong(int) on hot paths since it does not allocate.
+     *
+     * O(1) for all cases.
+     *
+     * @param index the index of the element to get
+     * @return the data stored at the index in the list
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public Long get(int index) {
+        return getLong(index);
+    }
+
+    /**
+     * Returns the element at the specified index without boxing it.
+     *
+     * O(1) for all cases.
+     *
+     * @param index the index of the element to get
+     * @return the data stored at the index in the list
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public long getLong(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The index cannot be less than "
+                    + "0 or greater than or equal to " + size + ".");
+        }
+        return backingArray[index];
+    }
+
+    /**
+     * Replaces the element at the specified index without boxing it.
+     *
+     * O(1) for all cases.
+     *
+     * @param index the index of the element to replace
+     * @param data  the new data for the index
+     * @return the data formerly located at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public long setLong(int index, long data) {
+        long old = getLong(index);
+        backingArray[index] = data;
+        return old;
+    }
+
+    /**
+     * Returns whether or not the list is empty.
+     *
+     * O(1) for all cases.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return (size == 0);
+    }
+
+    /**
+     * Clears the list. Resets the backing array to a new array of the
+     * initial capacity and resets the size.
+     *
+     * O(1) for all cases.
+     */
+    public void clear() {
+        backingArray = new long[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Returns a copy of the data in the list, in order, with length size.
+     *
+     * O(n) for all cases.
+     *
+     * @return the array of length size holding all of the data in the list
+     */
+    public long[] toArray() {
+        long[] array = new long[size];
+        System.arraycopy(backingArray, 0, array, 0, size);
+        return array;
+    }
+
+    /**
+     * Returns the backing array of the list.
+     *
+     * @return the backing array of the list
+     */
+    public long[] getBackingArray() {
+        return backingArray;
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,293 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The implementation of a MappedArrayList, which is an append-only ArrayList
+ * whose data lives in a memory-mapped file. Elements are encoded by an
+ * ElementCodec into fixed-size segments of the file, which are mapped lazily
+ * the first time they are touched, so the file grows one segment at a time
+ * and nothing is ever copied on resize.
+ *
+ * The file starts with a header holding a magic number, the element width,
+ * the segment length and the size of the list. Reopening an existing file
+ * only reads the header; no element is read or decoded until it is asked
+ * for.
+ *
+ * Every addToBack writes the element before it publishes the new size in
+ * the header, so a process that crashes mid-append never exposes a partial
+ * element. Writes reach the page cache immediately and survive the process
+ * exiting; call force() to also survive the machine going down.
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ * @userid mnamgoong3
+ * @GTID 903684766
+ */
+public class MappedArrayList<T> implements Closeable {
+
+    /**
+     * The default number of elements in each segment of the file.
+     */
+    public static final int DEFAULT_SEGMENT_ELEMENTS = 1 << 16;
+
+    private static final int MAGIC = 0x4D41504C;
+    private static final int HEADER_BYTES = 24;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int WIDTH_OFFSET = 4;
+    private static final int SEGMENT_OFFSET = 8;
+    private static final int SIZE_OFFSET = 16;
+
+    private final FileChannel channel;
+    private final ElementCodec<T> codec;
+    private final int width;
+    private final int segmentElements;
+    private final MappedByteBuffer header;
+    private MappedByteBuffer[] segments;
+    private long size;
+
+    /**
+     * Opens the list stored in the given file, creating the file with the
+     * default segment length if it does not exist.
+     *
+     * @param file  the file backing the list
+     * @param codec the codec used to encode and decode the elements
+     * @throws java.io.IOException                if the file cannot be opened
+     *                                            or mapped
+     * @throws java.lang.IllegalArgumentException if file or codec is null, or
+     *                                            the file does not hold a
+     *                                            valid list of elements of
+     *                                            the codec's width
+     */
+    public MappedArrayList(Path file, ElementCodec<T> codec)
+        throws IOException {
+        this(file, codec, DEFAULT_SEGMENT_ELEMENTS);
+    }
+
+    /**
+     * Opens the list stored in the given file, creating the file if it does
+     * not exist. The segment length only applies to new files; an existing
+     * file keeps the segment length it was created with.
+     *
+     * @param file            the file backing the list
+     * @param codec           the codec used to encode and decode the elements
+     * @param segmentElements the number of elements in each segment
+     * @throws java.io.IOException                if the file cannot be opened
+     *                                            or mapped
+     * @throws java.lang.IllegalArgumentException if file or codec is null,
+     *                                            segmentElements < 1, or the
+     *                                            file does not hold a valid
+     *                                            list of elements of the
+     *                                            codec's width
+     */
+    public MappedArrayList(Path file, ElementCodec<T> codec,
+                           int segmentElements) throws IOException {
+        if (file == null || codec == null) {
+            throw new IllegalArgumentException("The file and codec cannot be "
+                    + "null.");
+        }
+        if (segmentElements < 1
+                || (long) segmentElements * codec.width() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The segment length must be "
+                    + "between 1 and " + Integer.MAX_VALUE / codec.width()
+                    + " elements.");
+        }
+        this.codec = codec;
+        this.width = codec.width();
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long fileBytes = channel.size();
+        boolean isNew = fileBytes == 0;
+        if (!isNew && fileBytes < HEADER_BYTES) {
+            // Mapping the header would grow a file that is not a list
+            channel.close();
+            throw new IllegalArgumentException("The file is too short to "
+                    + "hold a list.");
+        }
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                HEADER_BYTES);
+        header.order(ByteOrder.nativeOrder());
+        if (isNew) {
+            header.putInt(MAGIC_OFFSET, MAGIC);
+            header.putInt(WIDTH_OFFSET, width);
+            header.putLong(SEGMENT_OFFSET, segmentElements);
+            header.putLong(SIZE_OFFSET, 0);
+        } else {
+            checkHeader(fileBytes);
+        }
+        this.segmentElements = (int) header.getLong(SEGMENT_OFFSET);
+        this.size = header.getLong(SIZE_OFFSET);
+        int segmentCount = (int) ((size + this.segmentElements - 1)
+                / this.segmentElements);
+        this.segments = new MappedByteBuffer[Math.max(1, segmentCount)];
+    }
+
+    /**
+     * Appends a new element to the back of the list. Maps a new segment of
+     * the file if the last one is full.
+     *
+     * O(1) for all cases.
+     *
+     * @param data the data to add to the back of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.io.UncheckedIOException       if a new segment cannot be
+     *                                            mapped
+     */
+    public void addToBack(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot insert null data into "
+                    + "the data structure.");
+        }
+        codec.encode(segment(size), offset(size), data);
+        size++;
+        // Publishes the new size only after the element is written
+        header.putLong(SIZE_OFFSET, size);
+    }
+
+    /**
+     * Returns the element at the specified index, decoded straight from the
+     * mapped file.
+     *
+     * O(1) for all cases.
+     *
+     * @param index the index of the element to get
+     * @return the data stored at the index in the list
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     * @throws java.io.UncheckedIOException        if the segment holding the
+     *                                             element cannot be mapped
+     */
+    public T get(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The index cannot be less than "
+                    + "0 or greater than or equal to " + size + ".");
+        }
+        return codec.decode(segment(index), offset(index));
+    }
+
+    /**
+     * Returns whether or not the list is empty.
+     *
+     * O(1) for all cases.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * @return the size of the list
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Flushes every mapped segment and the header to the storage device.
+     *
+     * O(s), where s is the number of mapped segments.
+     */
+    public void force() {
+        for (MappedByteBuffer segment : segments) {
+            if (segment != null) {
+                segment.force();
+            }
+        }
+        header.force();
+    }
+
+    /**
+     * Closes the file. The mapped segments are released once they are
+     * garbage collected; the list must not be used after it is closed.
+     *
+     * @throws java.io.IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Checks that the header of an existing file describes a list of
+     * elements of this width that fits in the file, closing the file if it
+     * does not.
+     *
+     * @param fileBytes the length of the file
+     * @throws java.io.IOException                if the file cannot be closed
+     * @throws java.lang.IllegalArgumentException if the header does not
+     *                                            match the codec or the file
+     */
+    private void checkHeader(long fileBytes) throws IOException {
+        String problem = null;
+        long storedSegment = header.getLong(SEGMENT_OFFSET);
+        long storedSize = header.getLong(SIZE_OFFSET);
+        if (header.getInt(MAGIC_OFFSET) != MAGIC
+                || header.getInt(WIDTH_OFFSET) != width) {
+            problem = "The file does not hold a list of " + width
+                    + "-byte elements.";
+        } else if (storedSegment < 1
+                || storedSegment > Integer.MAX_VALUE / width) {
+            problem = "The header claims " + storedSegment + "-element "
+                    + "segments, which is not between 1 and "
+                    + Integer.MAX_VALUE / width + ".";
+        } else if (storedSize < 0
+                || storedSize > (fileBytes - HEADER_BYTES) / width) {
+            problem = "The header claims " + storedSize + " elements, but "
+                    + "the file only holds " + (fileBytes - HEADER_BYTES)
+                    + " bytes of data.";
+        }
+        if (problem != null) {
+            channel.close();
+            throw new IllegalArgumentException(problem);
+        }
+    }
+
+    /**
+     * Returns the segment holding the element at the given index, mapping it
+     * first if it has not been touched yet.
+     *
+     * @param index the index of the element
+     * @return the mapped segment
+     */
+    private ByteBuffer segment(long index) {
+        int segmentIndex = (int) (index / segmentElements);
+        if (segmentIndex >= segments.length) {
+            MappedByteBuffer[] oldSegments = segments;
+            segments = new MappedByteBuffer[Math.max(segmentIndex + 1,
+                    oldSegments.length * 2)];
+            System.arraycopy(oldSegments, 0, segments, 0, oldSegments.length);
+        }
+        if (segments[segmentIndex] == null) {
+            long segmentBytes = (long) segmentElements * width;
+            try {
+                segments[segmentIndex] = channel.map(
+                        FileChannel.MapMode.READ_WRITE,
+                        HEADER_BYTES + segmentIndex * segmentBytes,
+                        segmentBytes);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            segments[segmentIndex].order(ByteOrder.nativeOrder());
+        }
+        return segments[segmentIndex];
+    }
+
+    /**
+     * Returns the byte offset of the element at the given index within its
+     * segment.
+     *
+     * @param index the index of the element
+     * @return the offset within the segment
+     */
+    private int offset(long index) {
+        return (int) (index % segmentElements) * width;
+    }
+}
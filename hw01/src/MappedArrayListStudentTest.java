@@ -0,0 +1,161 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This is a basic set of unit tests for MappedArrayList.
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ */
+public class MappedArrayListStudentTest {
+
+    private static final int TIMEOUT = 2000;
+    private static final int SEGMENT_ELEMENTS = 4;
+    private Path file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = Files.createTempFile("mapped", ".list");
+        Files.delete(file);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddToBack() throws IOException {
+        try (MappedArrayList<Long> list = new MappedArrayList<>(file,
+                ElementCodec.LONG, SEGMENT_ELEMENTS)) {
+            assertTrue(list.isEmpty());
+            for (long i = 0; i < 10; i++) {
+                list.addToBack(i * i);
+            }
+            assertEquals(10, list.size());
+            for (int i = 0; i < 10; i++) {
+                assertEquals(Long.valueOf((long) i * i), list.get(i));
+            }
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testReopen() throws IOException {
+        try (MappedArrayList<Integer> list = new MappedArrayList<>(file,
+                ElementCodec.INT, SEGMENT_ELEMENTS)) {
+            for (int i = 0; i < 9; i++) {
+                list.addToBack(i);
+            }
+            list.force();
+        }
+        // The segment length stored in the file wins over the argument
+        try (MappedArrayList<Integer> list = new MappedArrayList<>(file,
+                ElementCodec.INT)) {
+            assertEquals(9, list.size());
+            assertEquals(Integer.valueOf(8), list.get(8));
+            list.addToBack(9);
+            assertEquals(Integer.valueOf(9), list.get(9));
+        }
+        try (MappedArrayList<Integer> list = new MappedArrayList<>(file,
+                ElementCodec.INT)) {
+            assertEquals(10, list.size());
+            for (int i = 0; i < 10; i++) {
+                assertEquals(Integer.valueOf(i), list.get(i));
+            }
+        }
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testReopenWithWrongWidth() throws IOException {
+        try (MappedArrayList<Integer> list = new MappedArrayList<>(file,
+                ElementCodec.INT)) {
+            list.addToBack(1);
+        }
+        new MappedArrayList<>(file, ElementCodec.LONG);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testCorruptSegmentLength() throws IOException {
+        try (MappedArrayList<Integer> list = new MappedArrayList<>(file,
+                ElementCodec.INT, SEGMENT_ELEMENTS)) {
+            list.addToBack(1);
+        }
+        overwriteLong(8, 0);
+        new MappedArrayList<>(file, ElementCodec.INT);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testCorruptSize() throws IOException {
+        try (MappedArrayList<Integer> list = new MappedArrayList<>(file,
+                ElementCodec.INT, SEGMENT_ELEMENTS)) {
+            list.addToBack(1);
+        }
+        overwriteLong(16, Long.MAX_VALUE);
+        new MappedArrayList<>(file, ElementCodec.INT);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testTruncated() throws IOException {
+        try (MappedArrayList<Integer> list = new MappedArrayList<>(file,
+                ElementCodec.INT, SEGMENT_ELEMENTS)) {
+            for (int i = 0; i < 9; i++) {
+                list.addToBack(i);
+            }
+        }
+        // Keeps the header and the first segment of the three
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.WRITE)) {
+            channel.truncate(24 + SEGMENT_ELEMENTS * 4);
+        }
+        new MappedArrayList<>(file, ElementCodec.INT);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testShortForeignFile() throws IOException {
+        Files.write(file, new byte[10]);
+        try {
+            new MappedArrayList<>(file, ElementCodec.INT);
+            fail("opened a file shorter than the header");
+        } catch (IllegalArgumentException e) {
+            // The file was not grown to fit a header
+            assertEquals(10, Files.size(file));
+        }
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() throws IOException {
+        try (MappedArrayList<Integer> list = new MappedArrayList<>(file,
+                ElementCodec.INT)) {
+            list.get(0);
+        }
+    }
+
+    /**
+     * Overwrites the long at the given offset of the file, in the native
+     * byte order the header uses.
+     *
+     * @param offset the offset of the long
+     * @param value  the value to write
+     * @throws IOException if the file cannot be written
+     */
+    private void overwriteLong(int offset, long value) throws IOException {
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(8).order(ByteOrder.nativeOrder())
+                    .putLong(0, value), offset);
+        }
+    }
+}
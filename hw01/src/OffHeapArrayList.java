@@ -0,0 +1,356 @@
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.NoSuchElementException;
+
+/**
+ * The implementation of an OffHeapArrayList, which is an ArrayList whose data
+ * is encoded by an ElementCodec into a direct (off-heap) ByteBuffer instead
+ * of being stored in an array of references. All of the data is contiguous
+ * and aligned with byte 0 of the buffer, each element taking up exactly
+ * codec.width() bytes.
+ *
+ * The garbage collector never scans the contents of the buffer, and get
+ * decodes an element straight from native memory only when it is asked for.
+ * A direct ByteBuffer is indexed by int, so the list can hold at most
+ * Integer.MAX_VALUE / codec.width() elements.
+ *
+ * Closing the list drops its buffer, so the native memory is released at
+ * the next garbage collection instead of whenever the list itself becomes
+ * unreachable. Every operation on a closed list except size, isEmpty and
+ * close throws an IllegalStateException.
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ * @userid mnamgoong3
+ * @GTID 903684766
+ */
+public class OffHeapArrayList<T> implements Closeable {
+
+    /**
+     * The initial capacity of the OffHeapArrayList, in elements.
+     */
+    public static final int INITIAL_CAPACITY = 9;
+
+    /**
+     * The size of the scratch array used to shift bytes within the buffer.
+     */
+    private static final int SCRATCH_SIZE = 8192;
+
+    private final ElementCodec<T> codec;
+    private final int width;
+    private final byte[] scratch;
+    private ByteBuffer buffer;
+    private int size;
+
+    /**
+     * Constructs a new OffHeapArrayList. The buffer is large enough to hold
+     * the initial capacity of elements.
+     *
+     * @param codec the codec used to encode and decode the elements
+     * @throws java.lang.IllegalArgumentException if codec is null
+     */
+    public OffHeapArrayList(ElementCodec<T> codec) {
+        if (codec == null) {
+            throw new IllegalArgumentException("The codec cannot be null.");
+        }
+        this.codec = codec;
+        this.width = codec.width();
+        this.scratch = new byte[Math.max(SCRATCH_SIZE, width)];
+        this.buffer = allocate(INITIAL_CAPACITY);
+        this.size = 0;
+    }
+
+    /**
+     * Adds a new element to the specified index while shifting the encoded
+     * bytes of current elements as necessary to maintain the order of the
+     * list. If the buffer does not have enough space, it is resized to twice
+     * its old capacity, but never past Integer.MAX_VALUE / codec.width()
+     * elements.
+     *
+     * Amortized O(1) for index size and O(n) for all other cases.
+     *
+     * @param index the index at which to add the new element
+     * @param data  the data to add at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index > size
+     * @throws java.lang.IllegalArgumentException  if data is null
+     * @throws java.lang.IllegalStateException     if the list is closed or
+     *                                             already holds
+     *                                             Integer.MAX_VALUE /
+     *                                             codec.width() elements
+     */
+    public void addAtIndex(int index, T data) {
+        checkOpen();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("The index cannot be less than "
+                    + "0 or greater than " + size + ".");
+        }
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot insert null data into "
+                    + "the data structure.");
+        }
+        if (size == capacity()) {
+            int maxCapacity = Integer.MAX_VALUE / width;
+            if (size == maxCapacity) {
+                throw new IllegalStateException("The list cannot grow past "
+                        + size + " elements.");
+            }
+            ByteBuffer oldBuffer = buffer;
+            // Resizes the buffer to twice its old capacity, or to the most
+            // elements a buffer can hold if that is less
+            buffer = allocate((int) Math.min(2L * size, maxCapacity));
+            buffer.put(0, oldBuffer, 0, size * width);
+        }
+        moveBytes(index * width, (index + 1) * width, (size - index) * width);
+        codec.encode(buffer, index * width, data);
+        size++;
+    }
+
+    /**
+     * Adds a new element to the front of the list.
+     *
+     * O(n) for all cases.
+     *
+     * @param data the data to add to the front of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToFront(T data) {
+        addAtIndex(0, data);
+    }
+
+    /**
+     * Adds a new element to the back of the list.
+     *
+     * Amortized O(1).
+     *
+     * @param data the data to add to the back of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToBack(T data) {
+        addAtIndex(size, data);
+    }
+
+    /**
+     * Removes and returns the element at the specified index. Shifts the
+     * encoded bytes of current elements as necessary to maintain the order
+     * of the list.
+     *
+     * O(1) for index size - 1 and O(n) for all other cases.
+     *
+     * @param index the index of the element to remove
+     * @return the data formerly located at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     * @throws java.lang.IllegalStateException     if the list is closed
+     */
+    public T removeAtIndex(int index) {
+        T removed = get(index);
+        moveBytes((index + 1) * width, index * width,
+                (size - index - 1) * width);
+        size--;
+        return removed;
+    }
+
+    /**
+     * Removes and returns the first element of the list.
+     *
+     * O(n) for all cases.
+     *
+     * @return the data formerly located at the front of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     * @throws java.lang.IllegalStateException  if the list is closed
+     */
+    public T removeFromFront() {
+        checkOpen();
+        if (isEmpty()) {
+            throw new NoSuchElementException("The list is empty so there is "
+                    + "no element to remove.");
+        }
+        return removeAtIndex(0);
+    }
+
+    /**
+     * Removes and returns the last element of the list.
+     *
+     * O(1) for all cases.
+     *
+     * @return the data formerly located at the back of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     * @throws java.lang.IllegalStateException  if the list is closed
+     */
+    public T removeFromBack() {
+        checkOpen();
+        if (isEmpty()) {
+            throw new NoSuchElementException("The list is empty so there is "
+                    + "no element to remove.");
+        }
+        return removeAtIndex(size - 1);
+    }
+
+    /**
+     * Decodes and returns the element at the specified index.
+     *
+     * O(1) for all cases.
+     *
+     * @param index the index of the element to get
+     * @return the data stored at the index in the list
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     * @throws java.lang.IllegalStateException     if the list is closed
+     */
+    public T get(int index) {
+        checkIndex(index);
+        return codec.decode(buffer, index * width);
+    }
+
+    /**
+     * Returns a read-only view of the encoded bytes of the element at the
+     * specified index without decoding or copying them. The view is only
+     * valid until the list is next modified.
+     *
+     * O(1) for all cases.
+     *
+     * @param index the index of the element to view
+     * @return the width bytes encoding the element at the index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     * @throws java.lang.IllegalStateException     if the list is closed
+     */
+    public ByteBuffer getEncoded(int index) {
+        checkIndex(index);
+        return buffer.slice(index * width, width).asReadOnlyBuffer()
+                .order(buffer.order());
+    }
+
+    /**
+     * Returns whether or not the list is empty.
+     *
+     * O(1) for all cases.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return (size == 0);
+    }
+
+    /**
+     * Clears the list. Resets the buffer to a new buffer of the initial
+     * capacity and resets the size. The old buffer's native memory is
+     * released once it is garbage collected.
+     *
+     * O(1) for all cases.
+     *
+     * @throws java.lang.IllegalStateException if the list is closed
+     */
+    public void clear() {
+        checkOpen();
+        buffer = allocate(INITIAL_CAPACITY);
+        size = 0;
+    }
+
+    /**
+     * Returns the codec used to encode and decode the elements.
+     *
+     * @return the codec of the list
+     */
+    public ElementCodec<T> getCodec() {
+        return codec;
+    }
+
+    /**
+     * Returns the number of elements the buffer can hold without resizing.
+     *
+     * @return the capacity of the list
+     * @throws java.lang.IllegalStateException if the list is closed
+     */
+    public int capacity() {
+        checkOpen();
+        return buffer.capacity() / width;
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Closes the list, dropping its buffer and resetting the size. Closing
+     * a list that is already closed does nothing.
+     *
+     * O(1) for all cases.
+     */
+    @Override
+    public void close() {
+        buffer = null;
+        size = 0;
+    }
+
+    /**
+     * Allocates a direct buffer in native byte order large enough to hold
+     * the given number of elements.
+     *
+     * @param capacity the number of elements the buffer must hold
+     * @return the new buffer
+     */
+    private ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity * width)
+                .order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Moves length bytes of the buffer from offset from to offset to. The
+     * ranges may overlap; the bytes are staged through the scratch array one
+     * block at a time, starting from the end that is being moved into.
+     *
+     * @param from   the offset of the first byte to move
+     * @param to     the offset the first byte is moved to
+     * @param length the number of bytes to move
+     */
+    private void moveBytes(int from, int to, int length) {
+        if (to > from) {
+            int remaining = length;
+            while (remaining > 0) {
+                int block = Math.min(remaining, scratch.length);
+                remaining -= block;
+                buffer.get(from + remaining, scratch, 0, block);
+                buffer.put(to + remaining, scratch, 0, block);
+            }
+        } else if (to < from) {
+            int moved = 0;
+            while (moved < length) {
+                int block = Math.min(length - moved, scratch.length);
+                buffer.get(from + moved, scratch, 0, block);
+                buffer.put(to + moved, scratch, 0, block);
+                moved += block;
+            }
+        }
+    }
+
+    /**
+     * Checks that the list has not been closed.
+     *
+     * @throws java.lang.IllegalStateException if the list is closed
+     */
+    private void checkOpen() {
+        if (buffer == null) {
+            throw new IllegalStateException("The list is closed.");
+        }
+    }
+
+    /**
+     * Checks that the list is open and the index refers to an element of
+     * the list.
+     *
+     * @param index the index to check
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     * @throws java.lang.IllegalStateException     if the list is closed
+     */
+    private void checkIndex(int index) {
+        checkOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The index cannot be less than "
+                    + "0 or greater than or equal to " + size + ".");
+        }
+    }
+}
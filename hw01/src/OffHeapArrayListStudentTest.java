@@ -0,0 +1,173 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+
+/**
+ * This is a basic set of unit tests for OffHeapArrayList.
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ */
+public class OffHeapArrayListStudentTest {
+
+    private static final int TIMEOUT = 200;
+    private OffHeapArrayList<Long> list;
+
+    @Before
+    public void setUp() {
+        list = new OffHeapArrayList<>(ElementCodec.LONG);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testInitialization() {
+        assertEquals(0, list.size());
+        assertTrue(list.isEmpty());
+        assertEquals(OffHeapArrayList.INITIAL_CAPACITY, list.capacity());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAndGet() {
+        list.addToBack(2L);         // 2
+        list.addToFront(0L);        // 0, 2
+        list.addAtIndex(1, 1L);     // 0, 1, 2
+        list.addAtIndex(3, 3L);     // 0, 1, 2, 3
+
+        assertEquals(4, list.size());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(Long.valueOf(i), list.get(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemove() {
+        for (long i = 0; i < 5; i++) {
+            list.addToBack(i);      // 0, 1, 2, 3, 4
+        }
+        assertEquals(Long.valueOf(2), list.removeAtIndex(2));  // 0, 1, 3, 4
+        assertEquals(Long.valueOf(0), list.removeFromFront()); // 1, 3, 4
+        assertEquals(Long.valueOf(4), list.removeFromBack());  // 1, 3
+
+        assertEquals(2, list.size());
+        assertEquals(Long.valueOf(1), list.get(0));
+        assertEquals(Long.valueOf(3), list.get(1));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testGrowth() {
+        int count = OffHeapArrayList.INITIAL_CAPACITY * 4 + 1;
+        for (long i = 1; i < count; i++) {
+            list.addToBack(i);
+        }
+        // The front add grows the full buffer, then shifts every element
+        list.addToFront(0L);
+        assertEquals(count, list.size());
+        assertEquals(OffHeapArrayList.INITIAL_CAPACITY * 8, list.capacity());
+        for (int i = 0; i < count; i++) {
+            assertEquals(Long.valueOf(i), list.get(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testShiftPastScratch() {
+        // 20 records of 1000 bytes take more than one scratch block to shift
+        OffHeapArrayList<byte[]> records =
+                new OffHeapArrayList<>(ElementCodec.fixedLength(1000));
+        for (int i = 1; i <= 20; i++) {
+            records.addToBack(record(i));
+        }
+        records.addToFront(record(0));
+        assertEquals(21, records.size());
+        assertArrayEquals(record(0), records.get(0));
+        assertArrayEquals(record(20), records.get(20));
+        assertArrayEquals(record(0), records.removeFromFront());
+        for (int i = 0; i < 20; i++) {
+            assertArrayEquals(record(i + 1), records.get(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testGetEncoded() {
+        list.addToBack(7L);
+        ByteBuffer encoded = list.getEncoded(0);
+        assertEquals(8, encoded.remaining());
+        assertTrue(encoded.isReadOnly());
+        assertEquals(Long.valueOf(7), ElementCodec.LONG.decode(encoded, 0));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testClear() {
+        for (long i = 0; i < 20; i++) {
+            list.addToBack(i);
+        }
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(OffHeapArrayList.INITIAL_CAPACITY, list.capacity());
+        list.addToBack(1L);
+        assertEquals(Long.valueOf(1), list.get(0));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testClose() {
+        list.addToBack(1L);
+        list.close();
+        assertEquals(0, list.size());
+        assertTrue(list.isEmpty());
+        // Closing twice does nothing
+        list.close();
+        assertEquals(0, list.size());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalStateException.class)
+    public void testAddAfterClose() {
+        list.close();
+        list.addToBack(1L);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalStateException.class)
+    public void testGetAfterClose() {
+        list.addToBack(1L);
+        list.close();
+        list.get(0);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalStateException.class)
+    public void testRemoveAfterClose() {
+        list.addToBack(1L);
+        list.close();
+        list.removeFromBack();
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        list.addToBack(1L);
+        list.get(1);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testAddNull() {
+        list.addToBack(null);
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveFromEmpty() {
+        list.removeFromFront();
+    }
+
+    /**
+     * Returns a 1000-byte record whose every byte is the given value.
+     *
+     * @param value the value of every byte
+     * @return the record
+     */
+    private static byte[] record(int value) {
+        byte[] data = new byte[1000];
+        java.util.Arrays.fill(data, (byte) value);
+        return data;
+    }
+}
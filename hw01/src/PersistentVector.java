@@ -0,0 +1,379 @@
+import java.util.NoSuchElementException;
+
+/**
+ * The implementation of a PersistentVector, which is an immutable list data
+ * structure backed by a 32-way trie of arrays. Every "modifying" operation
+ * returns a new vector and leaves the old one untouched, and the two share
+ * every array the operation did not change.
+ *
+ * The data is stored in leaves of 32 elements at the bottom of the trie,
+ * and the last leaf (the tail) is kept outside the trie so that most
+ * appends only copy the tail. get, set, addToBack and removeFromBack walk
+ * at most log32(n) levels, and each version costs only the arrays on the
+ * path it changed, so keeping a version around is O(1).
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ * @userid mnamgoong3
+ * @GTID 903684766
+ */
+public final class PersistentVector<T> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final Object[] EMPTY_NODE = new Object[WIDTH];
+    private static final PersistentVector<?> EMPTY =
+            new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    /**
+     * Constructs a new PersistentVector from its parts.
+     *
+     * @param size  the number of elements in the vector
+     * @param shift the bit shift of the root level of the trie
+     * @param root  the root node of the trie
+     * @param tail  the leaf holding the last elements of the vector
+     */
+    private PersistentVector(int size, int shift, Object[] root,
+                             Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns the empty vector.
+     *
+     * O(1) for all cases.
+     *
+     * @param <T> the type of the elements
+     * @return the empty vector
+     */
+    public static <T> PersistentVector<T> empty() {
+        return (PersistentVector<T>) EMPTY;
+    }
+
+    /**
+     * Returns a vector holding the elements of the given ArrayList, in
+     * order.
+     *
+     * O(n) for all cases.
+     *
+     * @param <T>  the type of the elements
+     * @param list the list to copy
+     * @return a vector holding the same data as the list
+     * @throws java.lang.IllegalArgumentException if list is null
+     */
+    public static <T> PersistentVector<T> of(ArrayList<T> list) {
+        if (list == null) {
+            throw new IllegalArgumentException("Cannot copy a null list.");
+        }
+        PersistentVector<T> vector = empty();
+        for (int i = 0; i < list.size(); i++) {
+            vector = vector.addToBack(list.get(i));
+        }
+        return vector;
+    }
+
+    /**
+     * Returns a new vector with the data added to the back.
+     *
+     * O(log32 n) for all cases, O(1) amortized.
+     *
+     * @param data the data to add to the back of the vector
+     * @return the new vector
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public PersistentVector<T> addToBack(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot insert null data into "
+                    + "the data structure.");
+        }
+        if (size - tailOffset() < WIDTH) {
+            Object[] newTail = new Object[tail.length + 1];
+            System.arraycopy(tail, 0, newTail, 0, tail.length);
+            newTail[tail.length] = data;
+            return new PersistentVector<>(size + 1, shift, root, newTail);
+        }
+        // The tail is full, so it moves into the trie
+        Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new PersistentVector<>(size + 1, newShift, newRoot,
+                new Object[] {data});
+    }
+
+    /**
+     * Returns a new vector with the element at the specified index replaced.
+     *
+     * O(log32 n) for all cases.
+     *
+     * @param index the index of the element to replace
+     * @param data  the new data for the index
+     * @return the new vector
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     * @throws java.lang.IllegalArgumentException  if data is null
+     */
+    public PersistentVector<T> set(int index, T data) {
+        checkIndex(index);
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot insert null data into "
+                    + "the data structure.");
+        }
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = data;
+            return new PersistentVector<>(size, shift, root, newTail);
+        }
+        return new PersistentVector<>(size, shift,
+                setInNode(shift, root, index, data), tail);
+    }
+
+    /**
+     * Returns a new vector with the last element removed.
+     *
+     * O(log32 n) for all cases.
+     *
+     * @return the new vector
+     * @throws java.util.NoSuchElementException if the vector is empty
+     */
+    public PersistentVector<T> removeFromBack() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("The vector is empty so there is "
+                    + "no element to remove.");
+        }
+        if (size == 1) {
+            return empty();
+        }
+        if (size - tailOffset() > 1) {
+            Object[] newTail = new Object[tail.length - 1];
+            System.arraycopy(tail, 0, newTail, 0, newTail.length);
+            return new PersistentVector<>(size - 1, shift, root, newTail);
+        }
+        // The tail empties, so the last leaf of the trie becomes the tail
+        Object[] newTail = leafFor(size - 2);
+        Object[] newRoot = popTail(shift, root);
+        int newShift = shift;
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        }
+        if (shift > BITS && newRoot[1] == null) {
+            newRoot = (Object[]) newRoot[0];
+            newShift -= BITS;
+        }
+        return new PersistentVector<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * O(log32 n) for all cases.
+     *
+     * @param index the index of the element to get
+     * @return the data stored at the index in the vector
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T get(int index) {
+        checkIndex(index);
+        return (T) leafFor(index)[index & MASK];
+    }
+
+    /**
+     * Returns the last element of the vector.
+     *
+     * O(1) for all cases.
+     *
+     * @return the data at the back of the vector
+     * @throws java.util.NoSuchElementException if the vector is empty
+     */
+    public T getLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("The vector is empty.");
+        }
+        return (T) tail[tail.length - 1];
+    }
+
+    /**
+     * Returns whether or not the vector is empty.
+     *
+     * O(1) for all cases.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns an array representation of the vector.
+     *
+     * O(n) for all cases.
+     *
+     * @return the array of length size holding all of the data in the
+     * vector in the same order
+     */
+    public T[] toArray() {
+        T[] array = (T[]) new Object[size];
+        for (int i = 0; i < size; i += WIDTH) {
+            Object[] leaf = leafFor(i);
+            System.arraycopy(leaf, 0, array, i, Math.min(WIDTH, size - i));
+        }
+        return array;
+    }
+
+    /**
+     * Returns the size of the vector.
+     *
+     * @return the size of the vector
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the index of the first element stored in the tail.
+     *
+     * @return the number of elements stored in the trie
+     */
+    private int tailOffset() {
+        if (size < WIDTH) {
+            return 0;
+        }
+        return ((size - 1) >>> BITS) << BITS;
+    }
+
+    /**
+     * Returns the leaf holding the element at the given index.
+     *
+     * @param index the index of the element
+     * @return the leaf array
+     */
+    private Object[] leafFor(int index) {
+        if (index >= tailOffset()) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    /**
+     * Returns a copy of the given node with the full tail inserted as the
+     * rightmost leaf below it.
+     *
+     * @param level    the bit shift of the node's level
+     * @param parent   the node to copy
+     * @param tailNode the leaf to insert
+     * @return the copied node
+     */
+    private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+        int subIndex = ((size - 1) >>> level) & MASK;
+        Object[] copy = parent.clone();
+        Object[] inserted;
+        if (level == BITS) {
+            inserted = tailNode;
+        } else {
+            Object[] child = (Object[]) parent[subIndex];
+            inserted = child != null
+                    ? pushTail(level - BITS, child, tailNode)
+                    : newPath(level - BITS, tailNode);
+        }
+        copy[subIndex] = inserted;
+        return copy;
+    }
+
+    /**
+     * Returns a copy of the given node with its rightmost leaf removed, or
+     * null if the node held nothing else.
+     *
+     * @param level the bit shift of the node's level
+     * @param node  the node to copy
+     * @return the copied node, or null if it is now empty
+     */
+    private Object[] popTail(int level, Object[] node) {
+        int subIndex = ((size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            Object[] child = popTail(level - BITS,
+                    (Object[]) node[subIndex]);
+            if (child == null && subIndex == 0) {
+                return null;
+            }
+            Object[] copy = node.clone();
+            copy[subIndex] = child;
+            return copy;
+        } else if (subIndex == 0) {
+            return null;
+        }
+        Object[] copy = node.clone();
+        copy[subIndex] = null;
+        return copy;
+    }
+
+    /**
+     * Returns a copy of the given node with the element at the given index
+     * replaced, copying every node on the path to its leaf.
+     *
+     * @param level the bit shift of the node's level
+     * @param node  the node to copy
+     * @param index the index of the element
+     * @param data  the new data for the index
+     * @return the copied node
+     */
+    private static Object[] setInNode(int level, Object[] node, int index,
+                                      Object data) {
+        Object[] copy = node.clone();
+        if (level == 0) {
+            copy[index & MASK] = data;
+        } else {
+            int subIndex = (index >>> level) & MASK;
+            copy[subIndex] = setInNode(level - BITS,
+                    (Object[]) node[subIndex], index, data);
+        }
+        return copy;
+    }
+
+    /**
+     * Returns a chain of single-child nodes from the given level down to the
+     * given leaf.
+     *
+     * @param level the bit shift of the top of the chain
+     * @param leaf  the leaf at the bottom of the chain
+     * @return the top node of the chain
+     */
+    private static Object[] newPath(int level, Object[] leaf) {
+        if (level == 0) {
+            return leaf;
+        }
+        Object[] node = new Object[WIDTH];
+        node[0] = newPath(level - BITS, leaf);
+        return node;
+    }
+
+    /**
+     * Checks that the index refers to an element of the vector.
+     *
+     * @param index the index to check
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The index cannot be less than "
+                    + "0 or greater than or equal to " + size + ".");
+        }
+    }
+}
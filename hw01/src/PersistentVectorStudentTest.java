@@ -0,0 +1,87 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+/**
+ * This is a basic set of unit tests for PersistentVector.
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ */
+public class PersistentVectorStudentTest {
+
+    private static final int TIMEOUT = 2000;
+
+    @Test(timeout = TIMEOUT)
+    public void testEmpty() {
+        PersistentVector<String> vector = PersistentVector.empty();
+        assertTrue(vector.isEmpty());
+        assertEquals(0, vector.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddToBackAndGet() {
+        // Enough elements for a trie three levels deep
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < 40000; i++) {
+            vector = vector.addToBack(i);
+        }
+        assertEquals(40000, vector.size());
+        for (int i = 0; i < 40000; i++) {
+            assertEquals(Integer.valueOf(i), vector.get(i));
+        }
+        assertEquals(Integer.valueOf(39999), vector.getLast());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testVersionsAreIndependent() {
+        PersistentVector<String> v0 = PersistentVector.empty();
+        PersistentVector<String> v1 = v0.addToBack("0a").addToBack("1a");
+        PersistentVector<String> v2 = v1.set(0, "0b");
+        PersistentVector<String> v3 = v2.removeFromBack();
+
+        assertEquals(0, v0.size());
+        assertArrayEquals(new Object[] {"0a", "1a"}, v1.toArray());
+        assertArrayEquals(new Object[] {"0b", "1a"}, v2.toArray());
+        assertArrayEquals(new Object[] {"0b"}, v3.toArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSetAndRemoveAcrossLevels() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < 1100; i++) {
+            vector = vector.addToBack(i);
+        }
+        PersistentVector<Integer> edited = vector.set(5, -5).set(1090, -1090);
+        assertEquals(Integer.valueOf(5), vector.get(5));
+        assertEquals(Integer.valueOf(-5), edited.get(5));
+        assertEquals(Integer.valueOf(-1090), edited.get(1090));
+
+        for (int i = 1099; i >= 0; i--) {
+            assertEquals(Integer.valueOf(i), vector.getLast());
+            vector = vector.removeFromBack();
+        }
+        assertSame(PersistentVector.empty(), vector);
+        assertEquals(1100, edited.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testOf() {
+        ArrayList<String> list = new ArrayList<>();
+        list.addToBack("0a");
+        list.addToBack("1a");
+        PersistentVector<String> vector = PersistentVector.of(list);
+        list.addToBack("2a");
+        assertArrayEquals(new Object[] {"0a", "1a"}, vector.toArray());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveFromEmpty() {
+        PersistentVector.empty().removeFromBack();
+    }
+}
@@ -0,0 +1,113 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+/**
+ * This is a basic set of unit tests for IntArrayList, LongArrayList and
+ * DoubleArrayList.
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ */
+public class PrimitiveArrayListStudentTest {
+
+    private static final int TIMEOUT = 200;
+    private IntArrayList ints;
+    private LongArrayList longs;
+    private DoubleArrayList doubles;
+
+    @Before
+    public void setUp() {
+        ints = new IntArrayList();
+        longs = new LongArrayList();
+        doubles = new DoubleArrayList();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testInitialization() {
+        assertEquals(0, ints.size());
+        assertArrayEquals(new int[IntArrayList.INITIAL_CAPACITY],
+                ints.getBackingArray());
+        assertArrayEquals(new long[LongArrayList.INITIAL_CAPACITY],
+                longs.getBackingArray());
+        assertEquals(DoubleArrayList.INITIAL_CAPACITY,
+                doubles.getBackingArray().length);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAtIndex() {
+        ints.addAtIndex(0, 2);   // 2
+        ints.addAtIndex(0, 1);   // 1, 2
+        ints.addAtIndex(2, 4);   // 1, 2, 4
+        ints.addAtIndex(2, 3);   // 1, 2, 3, 4
+        ints.addAtIndex(0, 0);   // 0, 1, 2, 3, 4
+
+        assertEquals(5, ints.size());
+        int[] expected = new int[IntArrayList.INITIAL_CAPACITY];
+        for (int i = 0; i < 5; i++) {
+            expected[i] = i;
+        }
+        assertArrayEquals(expected, ints.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testResize() {
+        for (long i = 0; i < LongArrayList.INITIAL_CAPACITY + 1; i++) {
+            longs.addToBack(i);
+        }
+        assertEquals(LongArrayList.INITIAL_CAPACITY + 1, longs.size());
+        assertEquals(LongArrayList.INITIAL_CAPACITY * 2,
+                longs.getBackingArray().length);
+        for (int i = 0; i < longs.size(); i++) {
+            assertEquals(i, longs.getLong(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemove() {
+        for (int i = 0; i < 5; i++) {
+            doubles.addToBack(i + 0.5);    // 0.5, 1.5, 2.5, 3.5, 4.5
+        }
+        assertEquals(2.5, doubles.removeAtIndex(2), 0.0);   // 0.5, 1.5, 3.5, 4.5
+        assertEquals(0.5, doubles.removeFromFront(), 0.0);  // 1.5, 3.5, 4.5
+        assertEquals(4.5, doubles.removeFromBack(), 0.0);   // 1.5, 3.5
+
+        assertEquals(2, doubles.size());
+        assertArrayEquals(new double[] {1.5, 3.5}, doubles.toArray(), 0.0);
+        assertEquals(0.0, doubles.getBackingArray()[2], 0.0);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testGet() {
+        ints.addToBack(7);
+        ints.addToFront(3);
+        assertEquals(Integer.valueOf(3), ints.get(0));
+        assertEquals(7, ints.getInt(1));
+        assertEquals(7, ints.setInt(1, 9));
+        assertEquals(9, ints.getInt(1));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testClear() {
+        ints.addToBack(1);
+        ints.clear();
+        assertTrue(ints.isEmpty());
+        assertArrayEquals(new int[IntArrayList.INITIAL_CAPACITY],
+                ints.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        ints.getInt(0);
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveFromEmpty() {
+        longs.removeFromFront();
+    }
+}
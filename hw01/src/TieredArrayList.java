@@ -0,0 +1,340 @@
+import java.util.NoSuchElementException;
+
+/**
+ * The implementation of a TieredArrayList, which is a tiered vector: a list
+ * data structure backed by a directory of fixed-size chunks. Every chunk is
+ * a small circular array, and every chunk except the last one is full.
+ *
+ * Because every chunk but the last is full, the chunk and the offset of an
+ * index are found with a shift and a mask, so get is O(1). Adding or
+ * removing at an index only shifts data inside one chunk; every later chunk
+ * passes a single element along to its neighbor, which is O(1) thanks to
+ * the circular layout. With chunks of length k, that is O(k + n / k). The
+ * chunk length is doubled once the size reaches 4k^2 and halved once it
+ * falls below k^2 / 4, so k stays close to sqrt(n), which makes indexed adds
+ * and removes O(sqrt(n)). The gap between the two thresholds means a list
+ * whose size hovers around one of them is not rechunked on every add and
+ * remove.
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ * @userid mnamgoong3
+ * @GTID 903684766
+ */
+public class TieredArrayList<T> {
+
+    /**
+     * The log base 2 of the initial chunk length of the TieredArrayList.
+     */
+    public static final int INITIAL_CHUNK_SHIFT = 4;
+
+    /**
+     * The initial number of chunks the directory can hold.
+     */
+    public static final int INITIAL_DIRECTORY_CAPACITY = 4;
+
+    private T[][] chunks;
+    private int[] heads;
+    private int chunkCount;
+    private int shift;
+    private int mask;
+    private int size;
+
+    /**
+     * Constructs a new TieredArrayList with no chunks.
+     */
+    public TieredArrayList() {
+        init(INITIAL_CHUNK_SHIFT, INITIAL_DIRECTORY_CAPACITY);
+    }
+
+    /**
+     * Adds a new element to the specified index. Shifts data inside the
+     * chunk holding the index, then moves one element from the back of each
+     * later chunk to the front of the next one.
+     *
+     * Amortized O(sqrt(n)) for all cases.
+     *
+     * @param index the index at which to add the new element
+     * @param data  the data to add at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index > size
+     * @throws java.lang.IllegalArgumentException  if data is null
+     */
+    public void addAtIndex(int index, T data) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("The index cannot be less than "
+                    + "0 or greater than " + size + ".");
+        }
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot insert null data into "
+                    + "the data structure.");
+        }
+        if (size >= (4L << (2 * shift))) {
+            // Keeps the chunk length close to sqrt(n)
+            rechunk(shift + 1);
+        }
+        if (size == chunkCount << shift) {
+            addChunk();
+        }
+        int chunk = index >>> shift;
+        int last = chunkCount - 1;
+        // Makes room in the target chunk by carrying one element per chunk
+        for (int j = last; j > chunk; j--) {
+            T carried = popBack(j - 1);
+            heads[j] = (heads[j] - 1) & mask;
+            chunks[j][heads[j]] = carried;
+        }
+        int count = chunk < last ? mask : size - (chunk << shift);
+        T[] array = chunks[chunk];
+        int head = heads[chunk];
+        for (int p = count; p > (index & mask); p--) {
+            array[(head + p) & mask] = array[(head + p - 1) & mask];
+        }
+        array[(head + index) & mask] = data;
+        size++;
+    }
+
+    /**
+     * Adds a new element to the front of the list.
+     *
+     * Amortized O(sqrt(n)) for all cases.
+     *
+     * @param data the data to add to the front of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToFront(T data) {
+        addAtIndex(0, data);
+    }
+
+    /**
+     * Adds a new element to the back of the list.
+     *
+     * Amortized O(1).
+     *
+     * @param data the data to add to the back of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToBack(T data) {
+        addAtIndex(size, data);
+    }
+
+    /**
+     * Removes and returns the element at the specified index. Shifts data
+     * inside the chunk holding the index, then moves one element from the
+     * front of each later chunk to the back of the previous one. All unused
+     * positions are set to null. If the list has become small for its chunk
+     * length, the data is copied into chunks of half the length.
+     *
+     * Amortized O(sqrt(n)) for all cases.
+     *
+     * @param index the index of the element to remove
+     * @return the data formerly located at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T removeAtIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The index cannot be less than "
+                    + "0 or greater than or equal to " + size + ".");
+        }
+        int chunk = index >>> shift;
+        int last = chunkCount - 1;
+        int count = chunk < last ? mask + 1 : size - (chunk << shift);
+        T[] array = chunks[chunk];
+        int head = heads[chunk];
+        T removed = array[(head + index) & mask];
+        for (int p = index & mask; p < count - 1; p++) {
+            array[(head + p) & mask] = array[(head + p + 1) & mask];
+        }
+        array[(head + count - 1) & mask] = null;
+        // Fills the hole at the back of each chunk from the next chunk
+        for (int j = chunk + 1; j <= last; j++) {
+            T carried = chunks[j][heads[j]];
+            chunks[j][heads[j]] = null;
+            heads[j] = (heads[j] + 1) & mask;
+            chunks[j - 1][(heads[j - 1] + mask) & mask] = carried;
+        }
+        size--;
+        if (size == last << shift) {
+            chunks[last] = null;
+            chunkCount--;
+        }
+        if (shift > INITIAL_CHUNK_SHIFT && size < (1L << (2 * shift - 2))) {
+            // Keeps the chunk length close to sqrt(n)
+            rechunk(shift - 1);
+        }
+        return removed;
+    }
+
+    /**
+     * Removes and returns the first element of the list.
+     *
+     * Amortized O(sqrt(n)) for all cases.
+     *
+     * @return the data formerly located at the front of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public T removeFromFront() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("The list is empty so there is "
+                    + "no element to remove.");
+        }
+        return removeAtIndex(0);
+    }
+
+    /**
+     * Removes and returns the last element of the list.
+     *
+     * Amortized O(1).
+     *
+     * @return the data formerly located at the back of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public T removeFromBack() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("The list is empty so there is "
+                    + "no element to remove.");
+        }
+        return removeAtIndex(size - 1);
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * O(1) for all cases.
+     *
+     * @param index the index of the element to get
+     * @return the data stored at the index in the list
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The index cannot be less than "
+                    + "0 or greater than or equal to " + size + ".");
+        }
+        int chunk = index >>> shift;
+        return chunks[chunk][(heads[chunk] + index) & mask];
+    }
+
+    /**
+     * Returns whether or not the list is empty.
+     *
+     * O(1) for all cases.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clears the list. Drops every chunk and resets the chunk length and the
+     * size.
+     *
+     * O(1) for all cases.
+     */
+    public void clear() {
+        init(INITIAL_CHUNK_SHIFT, INITIAL_DIRECTORY_CAPACITY);
+    }
+
+    /**
+     * Returns an array representation of the list.
+     *
+     * O(n) for all cases.
+     *
+     * @return the array of length size holding all of the data in the list
+     * in the same order
+     */
+    public T[] toArray() {
+        T[] array = (T[]) new Object[size];
+        for (int c = 0; c < chunkCount; c++) {
+            int count = Math.min(mask + 1, size - (c << shift));
+            int head = heads[c];
+            int firstPart = Math.min(count, mask + 1 - head);
+            System.arraycopy(chunks[c], head, array, c << shift, firstPart);
+            System.arraycopy(chunks[c], 0, array, (c << shift) + firstPart,
+                    count - firstPart);
+        }
+        return array;
+    }
+
+    /**
+     * Returns the current length of every chunk.
+     *
+     * @return the chunk length
+     */
+    public int getChunkLength() {
+        return mask + 1;
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Resets the list to an empty directory with the given chunk length.
+     *
+     * @param newShift          the log base 2 of the chunk length
+     * @param directoryCapacity the number of chunks the directory can hold
+     */
+    private void init(int newShift, int directoryCapacity) {
+        shift = newShift;
+        mask = (1 << newShift) - 1;
+        chunks = (T[][]) new Object[directoryCapacity][];
+        heads = new int[directoryCapacity];
+        chunkCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Appends an empty chunk to the directory, doubling the directory if it
+     * is full.
+     */
+    private void addChunk() {
+        if (chunkCount == chunks.length) {
+            T[][] oldChunks = chunks;
+            int[] oldHeads = heads;
+            chunks = (T[][]) new Object[chunkCount * 2][];
+            heads = new int[chunkCount * 2];
+            System.arraycopy(oldChunks, 0, chunks, 0, chunkCount);
+            System.arraycopy(oldHeads, 0, heads, 0, chunkCount);
+        }
+        chunks[chunkCount] = (T[]) new Object[mask + 1];
+        heads[chunkCount] = 0;
+        chunkCount++;
+    }
+
+    /**
+     * Removes and returns the last element of the given full chunk.
+     *
+     * @param chunk the index of the chunk
+     * @return the element formerly at the back of the chunk
+     */
+    private T popBack(int chunk) {
+        int back = (heads[chunk] + mask) & mask;
+        T data = chunks[chunk][back];
+        chunks[chunk][back] = null;
+        return data;
+    }
+
+    /**
+     * Copies the data into new chunks of length 2^newShift.
+     *
+     * @param newShift the log base 2 of the new chunk length
+     */
+    private void rechunk(int newShift) {
+        T[] data = toArray();
+        int newLength = 1 << newShift;
+        int needed = (data.length + newLength) >>> newShift;
+        init(newShift, Math.max(INITIAL_DIRECTORY_CAPACITY, needed));
+        for (int c = 0; c < needed && c << newShift < data.length; c++) {
+            addChunk();
+            int count = Math.min(newLength, data.length - (c << newShift));
+            System.arraycopy(data, c << newShift, chunks[c], 0, count);
+        }
+        size = data.length;
+    }
+}
@@ -0,0 +1,111 @@
+import java.util.Random;
+
+/**
+ * A simple benchmark comparing TieredArrayList with ArrayList on a workload
+ * of random indexed inserts followed by random reads and random removes.
+ *
+ * Run with an optional element count and seed:
+ * java TieredArrayListBenchmark [count] [seed]
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ * @userid mnamgoong3
+ * @GTID 903684766
+ */
+public class TieredArrayListBenchmark {
+
+    private static final int DEFAULT_COUNT = 100000;
+    private static final long DEFAULT_SEED = 1332L;
+    private static final int ROUNDS = 3;
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    /**
+     * Runs the benchmark and prints the time each list takes per phase.
+     *
+     * @param args the optional element count and random seed
+     */
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0])
+                : DEFAULT_COUNT;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_SEED;
+        // The first rounds warm up the JIT; the last one is the result
+        for (int round = 1; round <= ROUNDS; round++) {
+            System.out.println("Round " + round + " (" + count
+                    + " elements)");
+            runArrayList(count, seed);
+            runTieredArrayList(count, seed);
+        }
+    }
+
+    /**
+     * Times the workload on an ArrayList.
+     *
+     * @param count the number of elements to insert
+     * @param seed  the seed of the random indices
+     */
+    private static void runArrayList(int count, long seed) {
+        Random random = new Random(seed);
+        ArrayList<Integer> list = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            list.addAtIndex(random.nextInt(list.size() + 1), i);
+        }
+        long inserted = System.nanoTime();
+        long checksum = 0;
+        for (int i = 0; i < count; i++) {
+            checksum += list.get(random.nextInt(count));
+        }
+        long read = System.nanoTime();
+        for (int i = count; i > 0; i--) {
+            checksum += list.removeAtIndex(random.nextInt(i));
+        }
+        long removed = System.nanoTime();
+        report("ArrayList", start, inserted, read, removed, checksum);
+    }
+
+    /**
+     * Times the workload on a TieredArrayList.
+     *
+     * @param count the number of elements to insert
+     * @param seed  the seed of the random indices
+     */
+    private static void runTieredArrayList(int count, long seed) {
+        Random random = new Random(seed);
+        TieredArrayList<Integer> list = new TieredArrayList<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            list.addAtIndex(random.nextInt(list.size() + 1), i);
+        }
+        long inserted = System.nanoTime();
+        long checksum = 0;
+        for (int i = 0; i < count; i++) {
+            checksum += list.get(random.nextInt(count));
+        }
+        long read = System.nanoTime();
+        for (int i = count; i > 0; i--) {
+            checksum += list.removeAtIndex(random.nextInt(i));
+        }
+        long removed = System.nanoTime();
+        report("TieredArrayList", start, inserted, read, removed, checksum);
+    }
+
+    /**
+     * Prints the time each phase took. The checksum is printed so that the
+     * reads cannot be optimized away, and should match between the lists.
+     *
+     * @param name     the name of the list
+     * @param start    the time the inserts started
+     * @param inserted the time the inserts finished
+     * @param read     the time the reads finished
+     * @param removed  the time the removes finished
+     * @param checksum the sum of every element read or removed
+     */
+    private static void report(String name, long start, long inserted,
+                               long read, long removed, long checksum) {
+        System.out.printf("  %-16s insert %8.1f ms  get %8.1f ms  "
+                + "remove %8.1f ms  (checksum %d)%n", name,
+                (inserted - start) / NANOS_PER_MILLI,
+                (read - inserted) / NANOS_PER_MILLI,
+                (removed - read) / NANOS_PER_MILLI, checksum);
+    }
+}
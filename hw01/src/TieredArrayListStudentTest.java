@@ -0,0 +1,199 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+/**
+ * This is a basic set of unit tests for TieredArrayList.
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ */
+public class TieredArrayListStudentTest {
+
+    private static final int TIMEOUT = 200;
+    private static final int CHUNK =
+            1 << TieredArrayList.INITIAL_CHUNK_SHIFT;
+    private TieredArrayList<String> list;
+    private java.util.List<String> expected;
+
+    @Before
+    public void setUp() {
+        list = new TieredArrayList<>();
+        expected = new java.util.ArrayList<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testInitialization() {
+        assertEquals(0, list.size());
+        assertTrue(list.isEmpty());
+        assertEquals(CHUNK, list.getChunkLength());
+        assertArrayEquals(new Object[0], list.toArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAndRemoveAtEnds() {
+        list.addToBack("2a");   // 2a
+        list.addToFront("1a");  // 1a, 2a
+        list.addToBack("3a");   // 1a, 2a, 3a
+        list.addToFront("0a");  // 0a, 1a, 2a, 3a
+
+        assertEquals(4, list.size());
+        assertArrayEquals(new Object[] {"0a", "1a", "2a", "3a"},
+                list.toArray());
+
+        assertEquals("0a", list.removeFromFront());
+        assertEquals("3a", list.removeFromBack());
+        assertEquals("1a", list.removeFromFront());
+        assertEquals("2a", list.removeFromBack());
+        assertTrue(list.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAndRemoveInMiddle() {
+        list.addAtIndex(0, "0a");   // 0a
+        list.addAtIndex(1, "3a");   // 0a, 3a
+        list.addAtIndex(1, "1a");   // 0a, 1a, 3a
+        list.addAtIndex(2, "2a");   // 0a, 1a, 2a, 3a
+
+        assertArrayEquals(new Object[] {"0a", "1a", "2a", "3a"},
+                list.toArray());
+        assertEquals("2a", list.get(2));
+
+        assertEquals("1a", list.removeAtIndex(1));  // 0a, 2a, 3a
+        assertEquals("2a", list.removeAtIndex(1));  // 0a, 3a
+        assertArrayEquals(new Object[] {"0a", "3a"}, list.toArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testChunkBoundaries() {
+        for (int i = 0; i < 3 * CHUNK; i++) {
+            add(i, i + "a");
+        }
+        // Front adds wrap the head of every chunk around its array
+        for (int i = 0; i < 5; i++) {
+            add(0, "f" + i);
+        }
+        add(CHUNK, "x0");
+        add(CHUNK - 1, "x1");
+        add(2 * CHUNK, "x2");
+        add(list.size(), "x3");
+        // The list now ends exactly at a chunk boundary
+        while (list.size() % CHUNK != 0) {
+            add(list.size(), "y" + list.size());
+        }
+        add(list.size(), "z0");
+        assertMatches();
+
+        remove(CHUNK);
+        remove(CHUNK - 1);
+        remove(2 * CHUNK);
+        remove(list.size() - 1);
+        remove(0);
+        assertMatches();
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRechunk() {
+        // The chunk length doubles once the size reaches 4 * CHUNK^2
+        int grown = 4 * CHUNK * CHUNK;
+        for (int i = 0; i < grown; i++) {
+            add(i, i + "a");
+        }
+        assertEquals(CHUNK, list.getChunkLength());
+        add(grown / 2, "x0");
+        assertEquals(2 * CHUNK, list.getChunkLength());
+        assertMatches();
+
+        // Adds and removes around the boundaries of the longer chunks
+        int length = list.getChunkLength();
+        add(length, "x1");
+        add(length - 1, "x2");
+        add(0, "x3");
+        remove(2 * length);
+        remove(length);
+        remove(length - 1);
+        assertMatches();
+
+        // The chunk length halves once the size falls below length^2 / 4
+        while (list.size() > length * length / 4) {
+            remove(list.size() / 2);
+        }
+        assertEquals(length, list.getChunkLength());
+        remove(0);
+        assertEquals(CHUNK, list.getChunkLength());
+        assertMatches();
+        add(CHUNK, "x4");
+        remove(CHUNK - 1);
+        assertMatches();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testClear() {
+        for (int i = 0; i < 4 * CHUNK * CHUNK + 1; i++) {
+            list.addToBack(i + "a");
+        }
+        list.clear();
+        assertEquals(0, list.size());
+        assertEquals(CHUNK, list.getChunkLength());
+        list.addToBack("0a");
+        assertArrayEquals(new Object[] {"0a"}, list.toArray());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testAddOutOfBounds() {
+        list.addToBack("0a");
+        list.addAtIndex(2, "1a");
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        list.addToBack("0a");
+        list.get(1);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testAddNull() {
+        list.addToFront(null);
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveFromEmpty() {
+        list.removeFromBack();
+    }
+
+    /**
+     * Adds the data at the index of both the list and the expected list.
+     *
+     * @param index the index to add at
+     * @param data  the data to add
+     */
+    private void add(int index, String data) {
+        list.addAtIndex(index, data);
+        expected.add(index, data);
+    }
+
+    /**
+     * Removes the data at the index of both lists and checks they agree.
+     *
+     * @param index the index to remove
+     */
+    private void remove(int index) {
+        assertEquals(expected.remove(index), list.removeAtIndex(index));
+    }
+
+    /**
+     * Checks that the list holds the same data as the expected list.
+     */
+    private void assertMatches() {
+        assertEquals(expected.size(), list.size());
+        assertArrayEquals(expected.toArray(), list.toArray());
+    }
+}
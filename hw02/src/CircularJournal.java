@@ -0,0 +1,394 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+
+/**
+ * The implementation of a CircularJournal, which is a fixed-size ring of
+ * records kept in a memory-mapped file. It has the addToBack,
+ * removeFromFront and get operations of a CircularSinglyLinkedList, except
+ * that the ring never grows: once it is full, adding to the back overwrites
+ * the oldest record. So the journal always holds the most recent capacity
+ * records, and they survive the process restarting.
+ *
+ * Every record ever added gets a sequence number, one more than the record
+ * before it, and the record with sequence s lives in slot s % capacity of
+ * the file. The header holds the sequence of the first record still in the
+ * ring and the sequence the next record will get, so the size is their
+ * difference. A reader tails the ring by remembering the next sequence it
+ * wants and reading that record once it has been added, either decoded or
+ * through a view, which is a read-only window onto the mapped file, so
+ * nothing is copied.
+ *
+ * The first and next sequences are never cached: every operation reads
+ * them from the mapped header with acquire semantics, so any number of
+ * journals opened on the same file, in this process or another one, see
+ * each other's changes. Only one of them, on one thread, may write to the
+ * ring with addToBack, removeFromFront or clear at a time.
+ *
+ * Each change publishes its header fields only once the record it covers is
+ * safe: an overwrite drops the oldest record before its slot is written, and
+ * a new record is written before the next sequence is moved past it. So a
+ * process that crashes mid-write never exposes a partial record. A reader
+ * can still race a writer that wraps around onto the slot it is reading, so
+ * get and read check the first sequence again after decoding, and a reader
+ * of a view calls isAvailable once it is done with it. Writes reach the page
+ * cache immediately and survive the process exiting; call force() to also
+ * survive the machine going down.
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ * @userid mnamgoong3
+ * @GTID 903684766
+ */
+public class CircularJournal<T> implements Closeable {
+
+    private static final int MAGIC = 0x4A524E4C;
+    private static final int HEADER_BYTES = 32;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int WIDTH_OFFSET = 4;
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int FIRST_OFFSET = 16;
+    private static final int NEXT_OFFSET = 24;
+    private static final VarHandle LONG_VIEW =
+            MethodHandles.byteBufferViewVarHandle(long[].class,
+                    ByteOrder.nativeOrder());
+
+    private final FileChannel channel;
+    private final ElementCodec<T> codec;
+    private final int width;
+    private final int capacity;
+    private final MappedByteBuffer buffer;
+
+    /**
+     * Opens the journal stored in the given file, creating the file if it
+     * does not exist.
+     *
+     * @param file     the file backing the journal
+     * @param codec    the codec used to encode and decode the records
+     * @param capacity the number of records the ring holds
+     * @throws java.io.IOException                if the file cannot be opened
+     *                                            or mapped
+     * @throws java.lang.IllegalArgumentException if file or codec is null,
+     *                                            capacity < 1, the ring does
+     *                                            not fit in one mapping, or
+     *                                            the file holds a journal
+     *                                            with a different record
+     *                                            width or capacity
+     */
+    public CircularJournal(Path file, ElementCodec<T> codec, int capacity)
+        throws IOException {
+        if (file == null || codec == null) {
+            throw new IllegalArgumentException("The file and codec cannot be "
+                    + "null.");
+        }
+        int maxCapacity = (Integer.MAX_VALUE - HEADER_BYTES) / codec.width();
+        if (capacity < 1 || capacity > maxCapacity) {
+            throw new IllegalArgumentException("The capacity must be between "
+                    + "1 and " + maxCapacity + " records.");
+        }
+        this.codec = codec;
+        this.width = codec.width();
+        this.capacity = capacity;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long fileBytes = channel.size();
+        long ringEnd = HEADER_BYTES + (long) capacity * width;
+        boolean isNew = fileBytes == 0;
+        if (!isNew) {
+            // Checks the header before mapping the ring, which would grow a
+            // short file that holds something else
+            checkHeader(fileBytes, ringEnd);
+        }
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                ringEnd);
+        buffer.order(ByteOrder.nativeOrder());
+        if (isNew) {
+            buffer.putInt(MAGIC_OFFSET, MAGIC);
+            buffer.putInt(WIDTH_OFFSET, width);
+            buffer.putLong(CAPACITY_OFFSET, capacity);
+            buffer.putLong(FIRST_OFFSET, 0);
+            buffer.putLong(NEXT_OFFSET, 0);
+        }
+    }
+
+    /**
+     * Adds the record to the back of the ring. If the ring is full, the
+     * oldest record is dropped and its slot is overwritten.
+     *
+     * O(1) for all cases.
+     *
+     * @param data the record to add to the back of the ring
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToBack(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot insert null data into "
+                    + "the data structure.");
+        }
+        long first = getFirstSequence();
+        long next = getNextSequence();
+        if (next - first == capacity) {
+            // Drops the oldest record before its slot is overwritten; the
+            // fence keeps the record's bytes from moving ahead of the drop
+            LONG_VIEW.setRelease(buffer, FIRST_OFFSET, first + 1);
+            VarHandle.storeStoreFence();
+        }
+        codec.encode(buffer, offset(next), data);
+        // Publishes the record only after it is written
+        LONG_VIEW.setRelease(buffer, NEXT_OFFSET, next + 1);
+    }
+
+    /**
+     * Removes and returns the oldest record in the ring.
+     *
+     * O(1) for all cases.
+     *
+     * @return the record formerly at the front of the ring
+     * @throws java.util.NoSuchElementException if the ring is empty
+     */
+    public T removeFromFront() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("The journal is empty so there "
+                    + "is no data to remove.");
+        }
+        long first = getFirstSequence();
+        T removed = codec.decode(buffer, offset(first));
+        LONG_VIEW.setRelease(buffer, FIRST_OFFSET, first + 1);
+        return removed;
+    }
+
+    /**
+     * Returns the record at the specified index, counting from the oldest
+     * record in the ring, decoded straight from the mapped file. If a writer
+     * overwrote the record while it was being decoded, the index is looked
+     * up again from the new oldest record.
+     *
+     * O(1) unless a writer keeps wrapping around onto the record.
+     *
+     * @param index the index of the record to get
+     * @return the record stored at the index in the ring
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T get(int index) {
+        while (true) {
+            long first = getFirstSequence();
+            int size = (int) (getNextSequence() - first);
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("The index cannot be less "
+                        + "than 0 or greater than or equal to " + size + ".");
+            }
+            T record = codec.decode(buffer, offset(first + index));
+            if (isAvailable(first + index)) {
+                return record;
+            }
+        }
+    }
+
+    /**
+     * Returns the record with the given sequence, decoded straight from the
+     * mapped file. This is how a reader tails the ring: it remembers the
+     * next sequence it wants and reads it once the next sequence of the
+     * journal has moved past it.
+     *
+     * O(1) for all cases.
+     *
+     * @param sequence the sequence of the record to read
+     * @return the record
+     * @throws java.util.NoSuchElementException if the record has already been
+     *                                          removed or overwritten, has
+     *                                          not been added yet, or was
+     *                                          overwritten while it was being
+     *                                          decoded
+     */
+    public T read(long sequence) {
+        checkAvailable(sequence);
+        T record = codec.decode(buffer, offset(sequence));
+        checkAvailable(sequence);
+        return record;
+    }
+
+    /**
+     * Returns a read-only view of the bytes of the record with the given
+     * sequence. The view starts at the record, is width bytes long and uses
+     * the native byte order, so codec.decode(view, 0) decodes it. Nothing is
+     * copied; the view reads the mapped file directly, and it shows a newer
+     * record once the ring has wrapped past the sequence. So once the reader
+     * is done with the view, it must call isAvailable with the sequence; if
+     * that returns false, what it read may be torn.
+     *
+     * O(1) for all cases.
+     *
+     * @param sequence the sequence of the record to view
+     * @return the view of the record
+     * @throws java.util.NoSuchElementException if the record has already been
+     *                                          removed or overwritten, or has
+     *                                          not been added yet
+     */
+    public ByteBuffer view(long sequence) {
+        checkAvailable(sequence);
+        return buffer.slice(offset(sequence), width).asReadOnlyBuffer()
+                .order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Returns whether the record with the given sequence is in the ring.
+     * Every read of the record made before this call is ordered before it,
+     * so a true result after reading a record, or a view of it, means the
+     * slot was not overwritten while it was being read.
+     *
+     * O(1) for all cases.
+     *
+     * @param sequence the sequence of the record
+     * @return true if the record is in the ring, false otherwise
+     */
+    public boolean isAvailable(long sequence) {
+        VarHandle.loadLoadFence();
+        return sequence >= getFirstSequence() && sequence < getNextSequence();
+    }
+
+    /**
+     * Returns the sequence of the oldest record in the ring. If the ring is
+     * empty, this equals the next sequence.
+     *
+     * @return the first sequence
+     */
+    public long getFirstSequence() {
+        return (long) LONG_VIEW.getAcquire(buffer, FIRST_OFFSET);
+    }
+
+    /**
+     * Returns the sequence the next record added will get.
+     *
+     * @return the next sequence
+     */
+    public long getNextSequence() {
+        return (long) LONG_VIEW.getAcquire(buffer, NEXT_OFFSET);
+    }
+
+    /**
+     * Returns whether or not the ring is empty.
+     *
+     * O(1) for all cases.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of records in the ring.
+     *
+     * @return the size of the ring
+     */
+    public int size() {
+        long first = getFirstSequence();
+        return (int) (getNextSequence() - first);
+    }
+
+    /**
+     * Returns the number of records the ring holds when it is full.
+     *
+     * @return the capacity of the ring
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Removes every record from the ring. Sequences keep counting up from
+     * where they were, so a reader tailing the ring never sees one reused.
+     *
+     * O(1) for all cases.
+     */
+    public void clear() {
+        LONG_VIEW.setRelease(buffer, FIRST_OFFSET, getNextSequence());
+    }
+
+    /**
+     * Flushes the ring and the header to the storage device.
+     *
+     * O(c) for all cases, where c is the capacity.
+     */
+    public void force() {
+        buffer.force();
+    }
+
+    /**
+     * Closes the file. The mapping is released once it is garbage
+     * collected; the journal must not be used after it is closed.
+     *
+     * @throws java.io.IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Checks that an existing file holds a journal of this record width and
+     * capacity and is long enough for its ring, reading the header through
+     * a read-only mapping that cannot grow the file. Closes the file if it
+     * does not.
+     *
+     * @param fileBytes the length of the file
+     * @param ringEnd   the length the file must have
+     * @throws java.io.IOException                if the file cannot be read
+     *                                            or closed
+     * @throws java.lang.IllegalArgumentException if the file does not hold
+     *                                            a matching journal
+     */
+    private void checkHeader(long fileBytes, long ringEnd)
+        throws IOException {
+        boolean matches = false;
+        if (fileBytes >= HEADER_BYTES) {
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                    HEADER_BYTES).order(ByteOrder.nativeOrder());
+            matches = header.getInt(MAGIC_OFFSET) == MAGIC
+                    && header.getInt(WIDTH_OFFSET) == width
+                    && header.getLong(CAPACITY_OFFSET) == capacity
+                    && fileBytes >= ringEnd;
+        }
+        if (!matches) {
+            channel.close();
+            throw new IllegalArgumentException("The file does not hold a "
+                    + "journal of " + capacity + " " + width + "-byte "
+                    + "records.");
+        }
+    }
+
+    /**
+     * Checks that the record with the given sequence is in the ring.
+     *
+     * @param sequence the sequence of the record
+     * @throws java.util.NoSuchElementException if the record is not in the
+     *                                          ring
+     */
+    private void checkAvailable(long sequence) {
+        if (!isAvailable(sequence)) {
+            throw new NoSuchElementException("The record " + sequence
+                    + " is not in the journal, which holds records "
+                    + getFirstSequence() + " to "
+                    + (getNextSequence() - 1) + ".");
+        }
+    }
+
+    /**
+     * Returns the byte offset in the file of the slot that holds the record
+     * with the given sequence.
+     *
+     * @param sequence the sequence of the record
+     * @return the offset of its slot
+     */
+    private int offset(long sequence) {
+        return HEADER_BYTES + (int) (sequence % capacity) * width;
+    }
+}
@@ -0,0 +1,185 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+
+/**
+ * This is a basic set of unit tests for CircularJournal.
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ */
+public class CircularJournalStudentTest {
+
+    private static final int TIMEOUT = 2000;
+    private static final int CAPACITY = 4;
+    private Path file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = Files.createTempFile("circular", ".journal");
+        Files.delete(file);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testOverwriteOnWrap() throws IOException {
+        try (CircularJournal<Long> journal = new CircularJournal<>(file,
+                ElementCodec.LONG, CAPACITY)) {
+            for (long i = 0; i < 6; i++) {
+                journal.addToBack(i);
+            }
+            // 0 and 1 were overwritten by 4 and 5
+            assertEquals(CAPACITY, journal.size());
+            assertEquals(2, journal.getFirstSequence());
+            assertEquals(6, journal.getNextSequence());
+            for (int i = 0; i < CAPACITY; i++) {
+                assertEquals(Long.valueOf(i + 2), journal.get(i));
+            }
+            assertEquals(Long.valueOf(2), journal.removeFromFront());
+            assertEquals(3, journal.size());
+            assertEquals(Long.valueOf(3), journal.get(0));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testReopen() throws IOException {
+        try (CircularJournal<Integer> journal = new CircularJournal<>(file,
+                ElementCodec.INT, CAPACITY)) {
+            for (int i = 0; i < 7; i++) {
+                journal.addToBack(i);
+            }
+            journal.removeFromFront();
+            journal.force();
+        }
+        try (CircularJournal<Integer> journal = new CircularJournal<>(file,
+                ElementCodec.INT, CAPACITY)) {
+            assertEquals(3, journal.size());
+            assertEquals(4, journal.getFirstSequence());
+            assertEquals(7, journal.getNextSequence());
+            assertEquals(Integer.valueOf(4), journal.get(0));
+            assertEquals(Integer.valueOf(6), journal.get(2));
+            journal.addToBack(7);
+            assertEquals(Integer.valueOf(7), journal.read(7));
+        }
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testReopenWithWrongWidth() throws IOException {
+        try (CircularJournal<Integer> journal = new CircularJournal<>(file,
+                ElementCodec.INT, CAPACITY)) {
+            journal.addToBack(1);
+        }
+        new CircularJournal<>(file, ElementCodec.LONG, CAPACITY);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testReopenWithWrongCapacity() throws IOException {
+        try (CircularJournal<Integer> journal = new CircularJournal<>(file,
+                ElementCodec.INT, CAPACITY)) {
+            journal.addToBack(1);
+        }
+        new CircularJournal<>(file, ElementCodec.INT, CAPACITY * 2);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testWrongCapacityLeavesFile() throws IOException {
+        try (CircularJournal<Integer> journal = new CircularJournal<>(file,
+                ElementCodec.INT, CAPACITY)) {
+            journal.addToBack(1);
+        }
+        long length = Files.size(file);
+        try {
+            new CircularJournal<>(file, ElementCodec.INT, CAPACITY * 64);
+            fail("Opened a journal with the wrong capacity.");
+        } catch (IllegalArgumentException e) {
+            // The other journal's file was not grown
+            assertEquals(length, Files.size(file));
+        }
+        try (CircularJournal<Integer> journal = new CircularJournal<>(file,
+                ElementCodec.INT, CAPACITY)) {
+            assertEquals(Integer.valueOf(1), journal.get(0));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testShortForeignFile() throws IOException {
+        Files.write(file, new byte[10]);
+        try {
+            new CircularJournal<>(file, ElementCodec.INT, CAPACITY);
+            fail("Opened a file that is not a journal.");
+        } catch (IllegalArgumentException e) {
+            assertEquals(10, Files.size(file));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testViewOfOverwrittenSequence() throws IOException {
+        try (CircularJournal<Long> journal = new CircularJournal<>(file,
+                ElementCodec.LONG, CAPACITY)) {
+            journal.addToBack(10L);
+            ByteBuffer view = journal.view(0);
+            assertEquals(Long.valueOf(10), ElementCodec.LONG.decode(view, 0));
+            assertTrue(journal.isAvailable(0));
+            for (long i = 1; i <= CAPACITY; i++) {
+                journal.addToBack(10 + i);
+            }
+            // The slot of sequence 0 now holds sequence 4
+            assertFalse(journal.isAvailable(0));
+            try {
+                journal.view(0);
+                fail("view of an overwritten sequence");
+            } catch (NoSuchElementException e) {
+                assertEquals(Long.valueOf(14), ElementCodec.LONG.decode(view,
+                        0));
+            }
+            try {
+                journal.read(CAPACITY + 1);
+                fail("read of a sequence not yet added");
+            } catch (NoSuchElementException e) {
+                assertEquals(CAPACITY + 1, journal.getNextSequence());
+            }
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testTailFromSecondInstance() throws IOException {
+        try (CircularJournal<Long> writer = new CircularJournal<>(file,
+                ElementCodec.LONG, CAPACITY);
+             CircularJournal<Long> reader = new CircularJournal<>(file,
+                ElementCodec.LONG, CAPACITY)) {
+            long wanted = reader.getNextSequence();
+            for (long i = 0; i < 3; i++) {
+                writer.addToBack(i * 100);
+            }
+            // The reader sees what the writer published after it opened
+            assertEquals(3, reader.getNextSequence());
+            while (wanted < reader.getNextSequence()) {
+                assertEquals(Long.valueOf(wanted * 100), reader.read(wanted));
+                wanted++;
+            }
+            for (long i = 3; i < 6; i++) {
+                writer.addToBack(i * 100);
+            }
+            // The writer wrapped past sequences 0 and 1
+            assertEquals(2, reader.getFirstSequence());
+            assertEquals(Long.valueOf(200), reader.get(0));
+            assertEquals(Long.valueOf(500), reader.read(5));
+            assertEquals(CAPACITY, reader.size());
+        }
+    }
+}
@@ -1,4 +1,6 @@
+import java.util.Collection;
 import java.util.NoSuchElementException;
+import java.util.function.Predicate;
 
 /**
  * The implementation of a CircularSinglyLinkedList without a tail pointer.
@@ -16,11 +18,48 @@ public class CircularSinglyLinkedList<T> {
 
     private CircularSinglyLinkedListNode<T> head;
     private int size;
+    private final int poolCapacity;
+    private CircularSinglyLinkedListNode<T> freeList;
+    private int poolSize;
+    private long poolHits;
+    private long poolMisses;
+    private CircularSinglyLinkedListNode<T> finger;
+    private int fingerIndex;
+    private int laneSpacing;
+    private CircularSinglyLinkedListNode<T>[] laneNodes;
+    private int[] laneIndices;
+    private int laneCount;
+
+    /**
+     * Constructs a new CircularSinglyLinkedList without a node pool. Every
+     * add allocates a new node.
+     */
+    public CircularSinglyLinkedList() {
+        this(0);
+    }
+
+    /**
+     * Constructs a new CircularSinglyLinkedList that keeps up to
+     * poolCapacity removed nodes on a free list and reuses them for later
+     * adds, so a steady cycle of adds and removes allocates no nodes.
+     *
+     * @param poolCapacity the largest number of free nodes to keep
+     * @throws java.lang.IllegalArgumentException if poolCapacity < 0
+     */
+    public CircularSinglyLinkedList(int poolCapacity) {
+        if (poolCapacity < 0) {
+            throw new IllegalArgumentException("The pool capacity cannot be "
+                    + "negative.");
+        }
+        this.poolCapacity = poolCapacity;
+    }
 
     /**
      * Adds the data to the specified index.
      *
-     * O(1) for indices 0 and size and O(n) for all other cases.
+     * O(1) for indices 0 and size. For all other cases, O(d) where d is the
+     * distance from the closest earlier starting point: the head, the finger
+     * or, if the skip index is enabled, an express lane.
      *
      * @param index the index at which to add the new data
      * @param data  the data to add at the specified index
@@ -38,12 +77,11 @@ public class CircularSinglyLinkedList<T> {
         }
         if (index == 0 || index == size) {
             if (isEmpty()) {
-                head = new CircularSinglyLinkedListNode<>(data);
+                head = obtainNode(data, null);
                 head.setNext(head);
             } else {
                 CircularSinglyLinkedListNode<T> newIndex =
-                        new CircularSinglyLinkedListNode<>(head.getData(),
-                                head.getNext());
+                        obtainNode(head.getData(), head.getNext());
                 head.setNext(newIndex);
                 head.setData(data);
                 if (index == size) {
@@ -51,17 +89,15 @@ public class CircularSinglyLinkedList<T> {
                 }
             }
         } else {
-            CircularSinglyLinkedListNode<T> curr = head;
-            for (int i = 0; i < index; i++) {
-                curr = curr.getNext();
-            }
+            CircularSinglyLinkedListNode<T> curr = nodeAt(index);
             CircularSinglyLinkedListNode<T> newIndex =
-                    new CircularSinglyLinkedListNode<>(curr.getData(),
-                            curr.getNext());
+                    obtainNode(curr.getData(), curr.getNext());
             curr.setNext(newIndex);
             curr.setData(data);
         }
+        boolean headMoved = index == size && size > 0;
         size++;
+        afterInsert(index, headMoved);
     }
 
     /**
@@ -99,7 +135,9 @@ public class CircularSinglyLinkedList<T> {
     /**
      * Removes and returns the data at the specified index.
      *
-     * O(1) for index 0 and O(n) for all other cases.
+     * O(1) for index 0. For all other cases, O(d) where d is the distance
+     * from the closest earlier starting point: the head, the finger or, if
+     * the skip index is enabled, an express lane.
      *
      * @param index the index of the data to remove
      * @return the data formerly located at the specified index
@@ -111,19 +149,26 @@ public class CircularSinglyLinkedList<T> {
                     + "than 0 or greater than or equal to " + size + ".");
         }
         T removed;
-        if (index == 0) {
+        CircularSinglyLinkedListNode<T> unlinked;
+        if (size == 1) {
             removed = head.getData();
-            head.setData(head.getNext().getData());
-            head.setNext(head.getNext().getNext());
+            unlinked = head;
+            head = null;
+        } else if (index == 0) {
+            removed = head.getData();
+            unlinked = head.getNext();
+            head.setData(unlinked.getData());
+            head.setNext(unlinked.getNext());
         } else {
-            CircularSinglyLinkedListNode<T> curr = head;
-            for (int i = 0; i < index - 1; i++) {
-                curr = curr.getNext();
-            }
-            removed = curr.getNext().getData();
-            curr.setNext(curr.getNext().getNext());
+            CircularSinglyLinkedListNode<T> curr = nodeAt(index - 1);
+            unlinked = curr.getNext();
+            removed = unlinked.getData();
+            curr.setNext(unlinked.getNext());
         }
         size--;
+        // Adjusts the finger and the lanes before the node is recycled
+        afterRemove(index == 0 ? 1 : index, unlinked);
+        recycleNode(unlinked);
         return removed;
     }
 
@@ -160,9 +205,12 @@ public class CircularSinglyLinkedList<T> {
     }
 
     /**
-     * Returns the data at the specified index.
+     * Returns the data at the specified index. Leaves the finger on the
+     * node, so a later access at or after the index starts from there.
      *
-     * O(1) for index 0 and O(n) for all other cases.
+     * O(1) for index 0. For all other cases, O(d) where d is the distance
+     * from the closest earlier starting point: the head, the finger or, if
+     * the skip index is enabled, an express lane.
      *
      * @param index the index of the data to get
      * @return the data stored at the index in the list
@@ -173,11 +221,7 @@ public class CircularSinglyLinkedList<T> {
             throw new IndexOutOfBoundsException("The index cannot be less than "
                     + "0 or greater than or equal to " + size + ".");
         }
-        CircularSinglyLinkedListNode<T> curr = head;
-        for (int i = 0; i < index; i++) {
-            curr = curr.getNext();
-        }
-        return curr.getData();
+        return nodeAt(index).getData();
     }
 
     /**
@@ -199,6 +243,7 @@ public class CircularSinglyLinkedList<T> {
     public void clear() {
         head = null;
         size = 0;
+        rebuildSkipIndex();
     }
 
     /**
@@ -235,6 +280,231 @@ public class CircularSinglyLinkedList<T> {
         }
     }
 
+    /**
+     * Removes all of the data that satisfies the given predicate. The ring
+     * is walked once, starting after the head and ending at the head, so the
+     * node before each match is always at hand and every match is unlinked
+     * in place. Unlinked nodes go back to the node pool. If the filter
+     * throws, the data it already removed stays removed and the list is
+     * left consistent.
+     *
+     * O(n) for all cases, plus O(n) to rebuild the skip index if it is
+     * enabled and any data was removed.
+     *
+     * @param filter the predicate that returns true for data to remove
+     * @return the number of data removed
+     * @throws java.lang.IllegalArgumentException if filter is null
+     */
+    public int removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("The filter cannot be null.");
+        }
+        if (isEmpty()) {
+            return 0;
+        }
+        int removed = 0;
+        int count = size;
+        try {
+            CircularSinglyLinkedListNode<T> prev = head;
+            for (int i = 1; i < count; i++) {
+                CircularSinglyLinkedListNode<T> curr = prev.getNext();
+                if (filter.test(curr.getData())) {
+                    prev.setNext(curr.getNext());
+                    recycleNode(curr);
+                    size--;
+                    removed++;
+                } else {
+                    prev = curr;
+                }
+            }
+            // prev is now the last node that is kept, or the head itself
+            if (filter.test(head.getData())) {
+                CircularSinglyLinkedListNode<T> oldHead = head;
+                if (prev == head) {
+                    head = null;
+                } else {
+                    head = head.getNext();
+                    prev.setNext(head);
+                }
+                recycleNode(oldHead);
+                size--;
+                removed++;
+            }
+        } finally {
+            // Runs even if the filter throws, so the finger and the lanes
+            // never point at a node that went back to the pool
+            if (removed > 0) {
+                rebuildSkipIndex();
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Removes all of the data that is contained in the given collection,
+     * using equals to compare, in a single pass over the list.
+     *
+     * O(n * c) where c is the cost of a lookup in the collection.
+     *
+     * @param collection the collection holding the data to remove
+     * @return the number of data removed
+     * @throws java.lang.IllegalArgumentException if collection is null
+     */
+    public int removeAll(Collection<?> collection) {
+        if (collection == null) {
+            throw new IllegalArgumentException("The collection cannot be "
+                    + "null.");
+        }
+        return removeIf(collection::contains);
+    }
+
+    /**
+     * Removes all of the data that is not contained in the given collection,
+     * using equals to compare, in a single pass over the list.
+     *
+     * O(n * c) where c is the cost of a lookup in the collection.
+     *
+     * @param collection the collection holding the data to keep
+     * @return the number of data removed
+     * @throws java.lang.IllegalArgumentException if collection is null
+     */
+    public int retainAll(Collection<?> collection) {
+        if (collection == null) {
+            throw new IllegalArgumentException("The collection cannot be "
+                    + "null.");
+        }
+        return removeIf(data -> !collection.contains(data));
+    }
+
+    /**
+     * Advances the ring by one: the node after the head becomes the head and
+     * the old first data becomes the last. No node is allocated or copied.
+     * Does nothing if the list is empty.
+     *
+     * O(1) for all cases, plus O(n / k) to shift the lanes if the skip index
+     * is enabled with spacing k.
+     */
+    public void rotate() {
+        if (size < 2) {
+            return;
+        }
+        head = head.getNext();
+        if (finger != null) {
+            fingerIndex = fingerIndex == 0 ? size - 1 : fingerIndex - 1;
+        }
+        // Every lane moves one index forward; a lane reaching 0 is dropped,
+        // since index 0 is the head
+        int kept = 0;
+        for (int i = 0; i < laneCount; i++) {
+            if (laneIndices[i] > 1) {
+                laneNodes[kept] = laneNodes[i];
+                laneIndices[kept] = laneIndices[i] - 1;
+                kept++;
+            }
+        }
+        for (int i = kept; i < laneCount; i++) {
+            laneNodes[i] = null;
+        }
+        laneCount = kept;
+    }
+
+    /**
+     * Moves every node of the other list to the back of this list, in
+     * order, leaving the other list empty. The two rings are spliced
+     * together by exchanging the next references of the two heads and the
+     * data of the two heads, so no node is allocated or copied.
+     *
+     * O(1) for all cases, plus O(n) to rebuild the skip index if it is
+     * enabled.
+     *
+     * @param other the list whose nodes are moved to the back of this list
+     * @throws java.lang.IllegalArgumentException if other is null or is this
+     *                                            list
+     */
+    public void concat(CircularSinglyLinkedList<T> other) {
+        if (other == null || other == this) {
+            throw new IllegalArgumentException("Cannot concatenate a list with "
+                    + "null or with itself.");
+        }
+        if (other.isEmpty()) {
+            return;
+        }
+        if (isEmpty()) {
+            head = other.head;
+        } else {
+            // a0 -> a1 ... and b0 -> b1 ... become b0 -> a1 ... a0 -> b1 ...
+            CircularSinglyLinkedListNode<T> otherHead = other.head;
+            CircularSinglyLinkedListNode<T> next = head.getNext();
+            head.setNext(otherHead.getNext());
+            otherHead.setNext(next);
+            T data = head.getData();
+            head.setData(otherHead.getData());
+            otherHead.setData(data);
+            head = otherHead;
+        }
+        size += other.size;
+        other.head = null;
+        other.size = 0;
+        other.rebuildSkipIndex();
+        rebuildSkipIndex();
+    }
+
+    /**
+     * Splits the list at the specified index. This list keeps the data
+     * before the index, and the data from the index on is moved, in order,
+     * into a new list that is returned. Only the node before the index is
+     * searched for; the rings are then cut and re-closed by relinking three
+     * nodes and moving the data of two of them, so no node is allocated.
+     *
+     * O(d) to find the node before the index, where d is its distance from
+     * the closest earlier starting point, plus O(n) to rebuild the skip index
+     * if it is enabled. O(1) for indices 0 and size.
+     *
+     * @param index the index of the first data to move into the new list
+     * @return the new list holding the data from the index on
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index > size
+     */
+    public CircularSinglyLinkedList<T> splitAt(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("The index cannot be less "
+                    + "than 0 or greater than " + size + ".");
+        }
+        CircularSinglyLinkedList<T> split =
+                new CircularSinglyLinkedList<>(poolCapacity);
+        if (index == size) {
+            return split;
+        }
+        if (index == 0) {
+            split.concat(this);
+            return split;
+        }
+        // x0 ... p -> xk ... xn-1 -> x0 becomes a ring xk'(x0) ... p and a
+        // ring x0'(xk) ... xn-1, where ' marks a node that swapped its data
+        CircularSinglyLinkedListNode<T> before = nodeAt(index - 1);
+        CircularSinglyLinkedListNode<T> first = before.getNext();
+        CircularSinglyLinkedListNode<T> afterFirst = first.getNext();
+        CircularSinglyLinkedListNode<T> second = head.getNext();
+        T headData = head.getData();
+        T firstData = first.getData();
+
+        first.setData(headData);
+        first.setNext(second == first ? first : second);
+        before.setNext(first);
+
+        head.setData(firstData);
+        // At index size - 1, afterFirst is the head, so the split is a
+        // single node pointing at itself
+        head.setNext(afterFirst);
+
+        split.head = head;
+        split.size = size - index;
+        head = first;
+        size = index;
+        split.rebuildSkipIndex();
+        rebuildSkipIndex();
+        return split;
+    }
+
     /**
      * Returns an array representation of the linked list.
      *
@@ -270,4 +540,318 @@ public class CircularSinglyLinkedList<T> {
     public int size() {
         return size;
     }
+
+    /**
+     * Returns the largest number of free nodes the pool keeps.
+     *
+     * @return the capacity of the node pool, or 0 if pooling is off
+     */
+    public int getPoolCapacity() {
+        return poolCapacity;
+    }
+
+    /**
+     * Returns the number of free nodes currently in the pool.
+     *
+     * @return the size of the node pool
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * Returns the number of adds that reused a node from the pool.
+     *
+     * @return the number of pool hits
+     */
+    public long getPoolHits() {
+        return poolHits;
+    }
+
+    /**
+     * Returns the number of adds that had to allocate a new node because the
+     * pool was empty.
+     *
+     * @return the number of pool misses
+     */
+    public long getPoolMisses() {
+        return poolMisses;
+    }
+
+    /**
+     * Enables the skip index: an array of express lanes, each holding a node
+     * and its index, roughly every spacing nodes apart. An indexed operation
+     * binary searches the lanes for the closest one before its index and
+     * walks from there, so it follows at most about 2 * spacing links. The
+     * lanes are kept correct through adds and removes at a cost of O(n /
+     * spacing) array updates, which are far cheaper than following links.
+     *
+     * O(n) for all cases.
+     *
+     * @param spacing the number of nodes between express lanes
+     * @throws java.lang.IllegalArgumentException if spacing < 2
+     */
+    public void enableSkipIndex(int spacing) {
+        if (spacing < 2) {
+            throw new IllegalArgumentException("The lane spacing must be at "
+                    + "least 2.");
+        }
+        laneSpacing = spacing;
+        rebuildSkipIndex();
+    }
+
+    /**
+     * Disables the skip index and drops its lanes. The finger stays enabled.
+     *
+     * O(1) for all cases.
+     */
+    public void disableSkipIndex() {
+        laneSpacing = 0;
+        rebuildSkipIndex();
+    }
+
+    /**
+     * Returns the number of nodes between express lanes.
+     *
+     * @return the lane spacing, or 0 if the skip index is disabled
+     */
+    public int getSkipIndexSpacing() {
+        return laneSpacing;
+    }
+
+    /**
+     * Returns the node at the given index, starting the walk from the
+     * closest of the head, the finger and the express lanes that is not
+     * past the index, and leaves the finger on the node.
+     *
+     * @param index the index of the node, which must be in bounds
+     * @return the node at the index
+     */
+    private CircularSinglyLinkedListNode<T> nodeAt(int index) {
+        CircularSinglyLinkedListNode<T> curr = head;
+        int currIndex = 0;
+        if (laneCount > 0) {
+            int lane = floorLane(index);
+            if (lane >= 0) {
+                curr = laneNodes[lane];
+                currIndex = laneIndices[lane];
+            }
+        }
+        if (finger != null && fingerIndex <= index && fingerIndex > currIndex) {
+            curr = finger;
+            currIndex = fingerIndex;
+        }
+        for (; currIndex < index; currIndex++) {
+            curr = curr.getNext();
+        }
+        finger = curr;
+        fingerIndex = index;
+        return curr;
+    }
+
+    /**
+     * Updates the finger and the lanes after data was added at the given
+     * index, and adds a lane if the gap the index fell in grew too long.
+     *
+     * @param index     the index the data was added at
+     * @param headMoved whether the add moved head to a new node, which only
+     *                  happens when adding to the back of a non-empty list
+     */
+    private void afterInsert(int index, boolean headMoved) {
+        if (finger != null) {
+            if (headMoved && fingerIndex == 0) {
+                // The old head node now sits at the back of the list
+                finger = null;
+            } else if (fingerIndex > index) {
+                fingerIndex++;
+            }
+        }
+        if (laneSpacing == 0) {
+            return;
+        }
+        for (int i = laneCount - 1; i >= 0 && laneIndices[i] > index; i--) {
+            laneIndices[i]++;
+        }
+        int lane = floorLane(index);
+        int gapStart = lane >= 0 ? laneIndices[lane] : 0;
+        int gapEnd = lane + 1 < laneCount ? laneIndices[lane + 1] : size;
+        if (gapEnd - gapStart > 2 * laneSpacing) {
+            CircularSinglyLinkedListNode<T> curr = lane >= 0
+                    ? laneNodes[lane] : head;
+            for (int i = 0; i < laneSpacing; i++) {
+                curr = curr.getNext();
+            }
+            insertLane(lane + 1, gapStart + laneSpacing, curr);
+        }
+    }
+
+    /**
+     * Updates the finger and the lanes after a node was unlinked. Every node
+     * after the unlinked one moved one index closer to the front.
+     *
+     * @param position the index the unlinked node was at
+     * @param unlinked the node that was unlinked, whose next reference still
+     *                 points into the list
+     */
+    private void afterRemove(int position,
+                             CircularSinglyLinkedListNode<T> unlinked) {
+        if (finger == unlinked) {
+            finger = null;
+        } else if (finger != null && fingerIndex > position) {
+            fingerIndex--;
+        }
+        if (laneSpacing == 0 || laneCount == 0) {
+            return;
+        }
+        if (size == 0 || laneCount * laneSpacing > 2 * size + laneSpacing) {
+            // The lanes have bunched up, so they are laid out again
+            rebuildSkipIndex();
+            return;
+        }
+        int kept = 0;
+        for (int i = 0; i < laneCount; i++) {
+            if (laneNodes[i] == unlinked) {
+                if (i + 1 < laneCount && laneIndices[i + 1] == position + 1) {
+                    // The next lane already sits on the node that took over
+                    // this index, so this lane is dropped
+                    continue;
+                }
+                // The node after the unlinked one took over its index
+                laneNodes[i] = unlinked.getNext();
+            } else if (laneIndices[i] > position) {
+                laneIndices[i]--;
+            }
+            if (laneIndices[i] < size) {
+                laneNodes[kept] = laneNodes[i];
+                laneIndices[kept] = laneIndices[i];
+                kept++;
+            }
+        }
+        for (int i = kept; i < laneCount; i++) {
+            laneNodes[i] = null;
+        }
+        laneCount = kept;
+    }
+
+    /**
+     * Invalidates the finger and, if the skip index is enabled, lays out its
+     * lanes again every laneSpacing nodes.
+     */
+    private void rebuildSkipIndex() {
+        finger = null;
+        laneNodes = null;
+        laneIndices = null;
+        laneCount = 0;
+        if (laneSpacing == 0) {
+            return;
+        }
+        int capacity = Math.max(1, size / laneSpacing);
+        laneNodes = newLaneNodes(capacity);
+        laneIndices = new int[capacity];
+        CircularSinglyLinkedListNode<T> curr = head;
+        for (int i = 1; i < size; i++) {
+            curr = curr.getNext();
+            if (i % laneSpacing == 0) {
+                insertLane(laneCount, i, curr);
+            }
+        }
+    }
+
+    /**
+     * Returns the last lane whose index is at most the given index.
+     *
+     * @param index the index to search for
+     * @return the position of the lane in the lane arrays, or -1 if every
+     * lane is past the index
+     */
+    private int floorLane(int index) {
+        int low = 0;
+        int high = laneCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (laneIndices[mid] <= index) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+
+    /**
+     * Inserts a lane into the lane arrays, doubling them if they are full.
+     *
+     * @param position the position of the new lane in the lane arrays
+     * @param index    the index of the lane's node in the list
+     * @param node     the lane's node
+     */
+    private void insertLane(int position, int index,
+                            CircularSinglyLinkedListNode<T> node) {
+        if (laneCount == laneNodes.length) {
+            CircularSinglyLinkedListNode<T>[] oldNodes = laneNodes;
+            int[] oldIndices = laneIndices;
+            laneNodes = newLaneNodes(laneCount * 2);
+            laneIndices = new int[laneCount * 2];
+            System.arraycopy(oldNodes, 0, laneNodes, 0, laneCount);
+            System.arraycopy(oldIndices, 0, laneIndices, 0, laneCount);
+        }
+        System.arraycopy(laneNodes, position, laneNodes, position + 1,
+                laneCount - position);
+        System.arraycopy(laneIndices, position, laneIndices, position + 1,
+                laneCount - position);
+        laneNodes[position] = node;
+        laneIndices[position] = index;
+        laneCount++;
+    }
+
+    /**
+     * Returns a new array for the lane nodes.
+     *
+     * @param length the length of the array
+     * @return the array
+     */
+    @SuppressWarnings("unchecked")
+    private CircularSinglyLinkedListNode<T>[] newLaneNodes(int length) {
+        return (CircularSinglyLinkedListNode<T>[])
+                new CircularSinglyLinkedListNode<?>[length];
+    }
+
+    /**
+     * Returns a node holding the given data and next reference, taken from
+     * the free list if it has one.
+     *
+     * @param data the data for the node
+     * @param next the next node
+     * @return the node
+     */
+    private CircularSinglyLinkedListNode<T> obtainNode(T data,
+            CircularSinglyLinkedListNode<T> next) {
+        if (freeList == null) {
+            poolMisses++;
+            return new CircularSinglyLinkedListNode<>(data, next);
+        }
+        CircularSinglyLinkedListNode<T> node = freeList;
+        freeList = node.getNext();
+        poolSize--;
+        poolHits++;
+        node.setData(data);
+        node.setNext(next);
+        return node;
+    }
+
+    /**
+     * Puts a node that was unlinked from the list on the free list, unless
+     * the pool is full. The node's data is cleared so that the pool does not
+     * keep it reachable.
+     *
+     * @param node the unlinked node
+     */
+    private void recycleNode(CircularSinglyLinkedListNode<T> node) {
+        if (poolSize < poolCapacity) {
+            node.setData(null);
+            node.setNext(freeList);
+            freeList = node;
+            poolSize++;
+        }
+    }
 }
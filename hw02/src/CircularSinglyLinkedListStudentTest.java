@@ -6,6 +6,8 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -370,4 +372,190 @@ public class CircularSinglyLinkedListStudentTest {
         expected[4] = "4a";
         assertArrayEquals(expected, list.toArray());
     }
+
+    @Test(timeout = TIMEOUT)
+    public void testNodePool() {
+        list = new CircularSinglyLinkedList<>(2);
+        list.addToBack("0a");
+        list.addToBack("1a");
+        list.addToBack("2a");   // 0a, 1a, 2a
+        assertEquals(3, list.getPoolMisses());
+
+        list.removeFromBack();  // 0a, 1a
+        list.removeAtIndex(0);  // 1a
+        list.removeFromFront(); // (empty), pool is already full
+        assertEquals(2, list.getPoolSize());
+        assertNull(list.getHead());
+
+        // Steady-state adds reuse the pooled nodes
+        list.addToFront("3a");
+        list.addToBack("4a");   // 3a, 4a
+        assertEquals(2, list.getPoolHits());
+        assertEquals(3, list.getPoolMisses());
+        assertEquals(0, list.getPoolSize());
+        assertArrayEquals(new Object[] {"3a", "4a"}, list.toArray());
+        assertSame(list.getHead(), list.getHead().getNext().getNext());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSkipIndex() {
+        list.enableSkipIndex(2);
+        for (int i = 0; i < 10; i++) {
+            list.addToBack(i + "a");    // 0a, 1a, ..., 9a
+        }
+        assertEquals(2, list.getSkipIndexSpacing());
+        assertEquals("7a", list.get(7));
+
+        list.addAtIndex(3, "x");        // 0a, 1a, 2a, x, 3a, ..., 9a
+        list.addToFront("y");           // y, 0a, 1a, 2a, x, 3a, ..., 9a
+        assertEquals("x", list.removeAtIndex(4));  // y, 0a, ..., 9a
+        assertEquals("y", list.removeFromFront()); // 0a, 1a, ..., 9a
+        for (int i = 9; i >= 0; i--) {
+            assertEquals(i + "a", list.get(i));
+        }
+
+        list.disableSkipIndex();
+        assertEquals(0, list.getSkipIndexSpacing());
+        assertEquals("5a", list.get(5));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRotate() {
+        list.addToBack("0a");
+        list.addToBack("1a");
+        list.addToBack("2a");   // 0a, 1a, 2a
+        CircularSinglyLinkedListNode<String> second = list.getHead().getNext();
+
+        list.rotate();          // 1a, 2a, 0a
+        assertSame(second, list.getHead());
+        assertArrayEquals(new Object[] {"1a", "2a", "0a"}, list.toArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testConcatAndSplitAt() {
+        CircularSinglyLinkedList<String> other =
+                new CircularSinglyLinkedList<>();
+        list.addToBack("0a");
+        list.addToBack("1a");   // 0a, 1a
+        other.addToBack("2a");
+        other.addToBack("3a");
+        other.addToBack("4a");  // 2a, 3a, 4a
+
+        list.concat(other);     // 0a, 1a, 2a, 3a, 4a
+        assertEquals(5, list.size());
+        assertEquals(0, other.size());
+        assertNull(other.getHead());
+        assertArrayEquals(new Object[] {"0a", "1a", "2a", "3a", "4a"},
+                list.toArray());
+
+        CircularSinglyLinkedList<String> tail = list.splitAt(2);
+        assertArrayEquals(new Object[] {"0a", "1a"}, list.toArray());
+        assertArrayEquals(new Object[] {"2a", "3a", "4a"}, tail.toArray());
+        assertSame(list.getHead(), list.getHead().getNext().getNext());
+        assertSame(tail.getHead(),
+                tail.getHead().getNext().getNext().getNext());
+        // Splits off the last node, then the first node of what is left
+        CircularSinglyLinkedList<String> last = tail.splitAt(2);
+        assertArrayEquals(new Object[] {"2a", "3a"}, tail.toArray());
+        assertArrayEquals(new Object[] {"4a"}, last.toArray());
+        assertSame(last.getHead(), last.getHead().getNext());
+        CircularSinglyLinkedList<String> rest = tail.splitAt(1);
+        assertArrayEquals(new Object[] {"2a"}, tail.toArray());
+        assertArrayEquals(new Object[] {"3a"}, rest.toArray());
+        assertSame(tail.getHead(), tail.getHead().getNext());
+        assertSame(rest.getHead(), rest.getHead().getNext());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testBulkRemove() {
+        CircularSinglyLinkedList<String> pooled =
+                new CircularSinglyLinkedList<>(4);
+        pooled.addToBack("0a");
+        pooled.addToBack("1b");
+        pooled.addToBack("2a");
+        pooled.addToBack("3b");
+        pooled.addToBack("4a");     // 0a, 1b, 2a, 3b, 4a
+
+        assertEquals(3, pooled.removeIf(s -> s.endsWith("a")));
+        assertEquals(2, pooled.size());
+        assertEquals(3, pooled.getPoolSize());
+        assertArrayEquals(new Object[] {"1b", "3b"}, pooled.toArray());
+        assertSame(pooled.getHead(), pooled.getHead().getNext().getNext());
+
+        pooled.addToFront("0a");    // 0a, 1b, 3b
+        assertEquals(1, pooled.retainAll(Arrays.asList("0a", "1b")));
+        assertArrayEquals(new Object[] {"0a", "1b"}, pooled.toArray());
+        assertEquals(2, pooled.removeAll(Arrays.asList("0a", "1b", "9z")));
+        assertEquals(0, pooled.size());
+        assertNull(pooled.getHead());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRotateWithSkipIndex() {
+        for (int i = 0; i < 6; i++) {
+            list.addToBack(i + "a");
+        }
+        list.enableSkipIndex(2);
+        list.removeAtIndex(3);
+        list.removeAtIndex(2);
+        list.removeAtIndex(0);  // 1a, 4a, 5a
+        list.rotate();          // 4a, 5a, 1a
+        list.addToBack("9a");   // 4a, 5a, 1a, 9a
+        assertGetMatchesToArray();
+        assertEquals("4a", list.get(0));
+
+        for (int i = 0; i < 20; i++) {
+            list.addAtIndex(i % list.size(), i + "b");
+            if (i % 3 == 0) {
+                list.rotate();
+            }
+            if (i % 4 == 0) {
+                list.removeAtIndex(list.size() / 2);
+            }
+            assertGetMatchesToArray();
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveIfFilterThrows() {
+        list = new CircularSinglyLinkedList<>(4);
+        for (int i = 0; i < 10; i++) {
+            list.addToBack(i + (i % 2 == 0 ? "a" : "b"));
+        }
+        list.enableSkipIndex(2);
+        assertEquals("7b", list.get(7));    // Leaves the finger on 7b
+
+        try {
+            list.removeIf(data -> {
+                if (data.equals("6a")) {
+                    throw new IllegalStateException();
+                }
+                return data.endsWith("b");
+            });
+        } catch (IllegalStateException e) {
+            // 1b, 3b and 5b were removed before the filter threw
+            assertEquals(7, list.size());
+            assertArrayEquals(new Object[] {"0a", "2a", "4a", "6a", "7b",
+                "8a", "9b"}, list.toArray());
+        }
+        assertGetMatchesToArray();
+
+        // The removed nodes are reused without disturbing the lanes
+        for (int i = 0; i < 4; i++) {
+            list.addAtIndex(2 * i, "x" + i);
+            assertGetMatchesToArray();
+        }
+        assertEquals(11, list.size());
+    }
+
+    /**
+     * Checks that get returns the same data as toArray at every index.
+     */
+    private void assertGetMatchesToArray() {
+        Object[] array = list.toArray();
+        assertEquals(array.length, list.size());
+        for (int i = 0; i < array.length; i++) {
+            assertEquals(array[i], list.get(i));
+        }
+    }
 }
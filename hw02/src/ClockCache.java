@@ -0,0 +1,287 @@
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * The implementation of a bounded cache that uses the CLOCK (second chance)
+ * eviction policy. The entries sit in a ring of CircularSinglyLinkedListNodes
+ * and each entry has a reference bit. A side hash index maps every key to its
+ * node, so a lookup is O(1) and a hit only sets the entry's reference bit;
+ * the ring is never reordered on a hit the way an LRU list would be.
+ *
+ * The clock hand points at the node just before the next eviction candidate.
+ * To evict, the hand sweeps forward: an entry whose reference bit is set has
+ * the bit cleared and is passed over, and the first entry found with a clear
+ * bit is unlinked. A new entry is linked in just behind the hand, so it is
+ * the last entry the hand reaches. Entries that are used again between two
+ * sweeps survive, which gives hit rates close to LRU.
+ *
+ * A removed key leaves its node in the ring as an empty slot, which the hand
+ * unlinks the next time it passes. The ring never holds more than capacity
+ * nodes, counting the empty slots.
+ *
+ * This class is not thread-safe.
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ * @userid mnamgoong3
+ * @GTID 903684766
+ */
+public class ClockCache<K, V> {
+
+    private final int capacity;
+    private final Map<K, CircularSinglyLinkedListNode<Entry<K, V>>> index;
+    private CircularSinglyLinkedListNode<Entry<K, V>> hand;
+    private int nodeCount;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * Constructs a new ClockCache that holds up to capacity entries.
+     *
+     * @param capacity the largest number of entries to hold
+     * @throws java.lang.IllegalArgumentException if capacity < 1
+     */
+    public ClockCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be at "
+                    + "least 1.");
+        }
+        this.capacity = capacity;
+        this.index = new HashMap<>();
+    }
+
+    /**
+     * Returns the value mapped to the key and sets the entry's reference bit.
+     *
+     * O(1) for all cases.
+     *
+     * @param key the key to look up
+     * @return the value mapped to the key, or null if the key is not cached
+     * @throws java.lang.IllegalArgumentException if key is null
+     */
+    public V get(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key cannot be null.");
+        }
+        CircularSinglyLinkedListNode<Entry<K, V>> node = index.get(key);
+        if (node == null) {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        Entry<K, V> entry = node.getData();
+        entry.referenced = true;
+        return entry.value;
+    }
+
+    /**
+     * Maps the key to the value. If the key is already cached, its value is
+     * replaced and its reference bit is set. Otherwise, if the cache is full,
+     * the hand sweeps to make room first.
+     *
+     * O(1) amortized. A single sweep may pass over every entry once, but each
+     * pass clears a reference bit that only a later hit can set again.
+     *
+     * @param key   the key to map
+     * @param value the value to map the key to
+     * @return the value previously mapped to the key, or null if there was
+     * none
+     * @throws java.lang.IllegalArgumentException if key or value is null
+     */
+    public V put(K key, V value) {
+        if (key == null || value == null) {
+            throw new IllegalArgumentException("Cannot insert a null key or "
+                    + "value into the cache.");
+        }
+        CircularSinglyLinkedListNode<Entry<K, V>> node = index.get(key);
+        if (node != null) {
+            Entry<K, V> entry = node.getData();
+            V old = entry.value;
+            entry.value = value;
+            entry.referenced = true;
+            return old;
+        }
+        if (nodeCount == capacity) {
+            sweep();
+        }
+        node = new CircularSinglyLinkedListNode<>(new Entry<>(key, value));
+        if (hand == null) {
+            node.setNext(node);
+        } else {
+            node.setNext(hand.getNext());
+            hand.setNext(node);
+        }
+        hand = node;
+        nodeCount++;
+        index.put(key, node);
+        return null;
+    }
+
+    /**
+     * Evicts one entry chosen by the clock hand.
+     *
+     * O(1) amortized.
+     *
+     * @return the key of the evicted entry
+     * @throws java.util.NoSuchElementException if the cache is empty
+     */
+    public K evict() {
+        if (index.isEmpty()) {
+            throw new NoSuchElementException("The cache is empty.");
+        }
+        Entry<K, V> evicted = sweep();
+        while (evicted == null) {
+            evicted = sweep();
+        }
+        return evicted.key;
+    }
+
+    /**
+     * Removes the key from the cache. Its node stays in the ring as an empty
+     * slot until the hand next passes it.
+     *
+     * O(1) for all cases.
+     *
+     * @param key the key to remove
+     * @return the value mapped to the key, or null if the key is not cached
+     * @throws java.lang.IllegalArgumentException if key is null
+     */
+    public V remove(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key cannot be null.");
+        }
+        CircularSinglyLinkedListNode<Entry<K, V>> node = index.remove(key);
+        if (node == null) {
+            return null;
+        }
+        V value = node.getData().value;
+        node.setData(null);
+        return value;
+    }
+
+    /**
+     * Returns whether the key is cached, without setting its reference bit
+     * or counting a hit or miss.
+     *
+     * O(1) for all cases.
+     *
+     * @param key the key to look up
+     * @return true if the key is cached, false otherwise
+     */
+    public boolean containsKey(K key) {
+        return key != null && index.containsKey(key);
+    }
+
+    /**
+     * Removes every entry from the cache. The hit, miss and eviction counts
+     * are kept.
+     *
+     * O(1) for all cases.
+     */
+    public void clear() {
+        index.clear();
+        hand = null;
+        nodeCount = 0;
+    }
+
+    /**
+     * Returns the number of entries in the cache.
+     *
+     * @return the size of the cache
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Returns the largest number of entries the cache holds.
+     *
+     * @return the capacity of the cache
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of calls to get that found their key.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of calls to get that did not find their key.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of entries evicted by the clock hand, whether by
+     * evict or to make room in put.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Moves the hand forward until one node is unlinked: either an empty
+     * slot, or an entry whose reference bit is clear. Every set reference
+     * bit passed on the way is cleared. The ring must not be empty.
+     *
+     * @return the evicted entry, or null if an empty slot was unlinked
+     */
+    private Entry<K, V> sweep() {
+        while (true) {
+            CircularSinglyLinkedListNode<Entry<K, V>> candidate =
+                    hand.getNext();
+            Entry<K, V> entry = candidate.getData();
+            if (entry != null && entry.referenced) {
+                entry.referenced = false;
+                hand = candidate;
+            } else {
+                if (candidate == hand) {
+                    hand = null;
+                } else {
+                    hand.setNext(candidate.getNext());
+                }
+                candidate.setNext(null);
+                nodeCount--;
+                if (entry != null) {
+                    index.remove(entry.key);
+                    evictionCount++;
+                }
+                return entry;
+            }
+        }
+    }
+
+    /**
+     * An entry in the ring: a key, its value and its reference bit.
+     */
+    private static final class Entry<K, V> {
+
+        private final K key;
+        private V value;
+        private boolean referenced;
+
+        /**
+         * Constructs a new Entry with a clear reference bit.
+         *
+         * @param key   the key
+         * @param value the value
+         */
+        private Entry(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
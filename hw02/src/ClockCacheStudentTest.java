@@ -0,0 +1,164 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+/**
+ * This is a basic set of unit tests for ClockCache.
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ */
+public class ClockCacheStudentTest {
+
+    private static final int TIMEOUT = 200;
+    private ClockCache<String, Integer> cache;
+
+    @Before
+    public void setUp() {
+        cache = new ClockCache<>(3);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testInitialization() {
+        assertEquals(0, cache.size());
+        assertEquals(3, cache.getCapacity());
+        assertEquals(0, cache.getEvictionCount());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testEvictionOrderWhenFull() {
+        cache.put("a", 0);
+        cache.put("b", 1);
+        cache.put("c", 2);
+        assertEquals(3, cache.size());
+
+        // With no hits, the hand evicts the oldest entries first
+        cache.put("d", 3);
+        assertFalse(cache.containsKey("a"));
+        cache.put("e", 4);
+        assertFalse(cache.containsKey("b"));
+        cache.put("f", 5);
+        assertFalse(cache.containsKey("c"));
+
+        assertEquals(3, cache.size());
+        assertEquals(3, cache.getEvictionCount());
+        assertEquals(Integer.valueOf(3), cache.get("d"));
+        assertEquals(Integer.valueOf(4), cache.get("e"));
+        assertEquals(Integer.valueOf(5), cache.get("f"));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSecondChance() {
+        cache.put("a", 0);
+        cache.put("b", 1);
+        cache.put("c", 2);
+        assertEquals(Integer.valueOf(0), cache.get("a"));
+
+        // The hand clears a's reference bit and evicts b instead
+        cache.put("d", 3);
+        assertTrue(cache.containsKey("a"));
+        assertFalse(cache.containsKey("b"));
+        cache.put("e", 4);
+        assertFalse(cache.containsKey("c"));
+
+        // a used up its second chance, so it goes next
+        cache.put("f", 5);
+        assertFalse(cache.containsKey("a"));
+        assertTrue(cache.containsKey("d"));
+        assertTrue(cache.containsKey("e"));
+        assertTrue(cache.containsKey("f"));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testEveryEntryReferenced() {
+        cache.put("a", 0);
+        cache.put("b", 1);
+        cache.put("c", 2);
+        cache.get("a");
+        cache.get("b");
+        cache.get("c");
+
+        // A full sweep clears every bit, then evicts where it started
+        assertEquals("a", cache.evict());
+        assertEquals("b", cache.evict());
+        assertEquals(1, cache.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPutUpdatesValue() {
+        assertNull(cache.put("a", 0));
+        assertEquals(Integer.valueOf(0), cache.put("a", 10));
+        assertEquals(1, cache.size());
+        assertEquals(Integer.valueOf(10), cache.get("a"));
+
+        // Updating a value also sets the reference bit
+        cache.put("b", 1);
+        cache.put("c", 2);
+        cache.put("b", 11);
+        cache.put("d", 3);
+        assertTrue(cache.containsKey("a"));
+        assertEquals(Integer.valueOf(11), cache.get("b"));
+        assertFalse(cache.containsKey("c"));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveLeavesEmptySlot() {
+        cache.put("a", 0);
+        cache.put("b", 1);
+        cache.put("c", 2);
+        assertEquals(Integer.valueOf(0), cache.remove("a"));
+        assertNull(cache.remove("a"));
+        assertEquals(2, cache.size());
+
+        // The hand reuses a's empty slot without evicting anything
+        cache.put("d", 3);
+        assertEquals(0, cache.getEvictionCount());
+        assertTrue(cache.containsKey("b"));
+        assertTrue(cache.containsKey("c"));
+        assertTrue(cache.containsKey("d"));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testHitAndMissCounts() {
+        cache.put("a", 0);
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+        // containsKey counts as neither
+        cache.containsKey("a");
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testClear() {
+        cache.put("a", 0);
+        cache.put("b", 1);
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNull(cache.get("a"));
+        cache.put("c", 2);
+        assertEquals(Integer.valueOf(2), cache.get("c"));
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testEvictFromEmpty() {
+        cache.evict();
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testPutNullValue() {
+        cache.put("a", null);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testCapacityTooSmall() {
+        new ClockCache<String, Integer>(0);
+    }
+}
@@ -0,0 +1,137 @@
+import java.nio.ByteBuffer;
+
+/**
+ * A codec that encodes elements of type T into a fixed number of bytes and
+ * decodes them back. Used by the lists that keep their data as raw bytes
+ * instead of as an array of references.
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ * @userid mnamgoong3
+ * @GTID 903684766
+ */
+public interface ElementCodec<T> {
+
+    /**
+     * Codec for int data, 4 bytes per element.
+     */
+    ElementCodec<Integer> INT = new ElementCodec<Integer>() {
+        @Override
+        public int width() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void encode(ByteBuffer buffer, int offset, Integer data) {
+            buffer.putInt(offset, data);
+        }
+
+        @Override
+        public Integer decode(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+    };
+
+    /**
+     * Codec for long data, 8 bytes per element.
+     */
+    ElementCodec<Long> LONG = new ElementCodec<Long>() {
+        @Override
+        public int width() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void encode(ByteBuffer buffer, int offset, Long data) {
+            buffer.putLong(offset, data);
+        }
+
+        @Override
+        public Long decode(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+    };
+
+    /**
+     * Codec for double data, 8 bytes per element.
+     */
+    ElementCodec<Double> DOUBLE = new ElementCodec<Double>() {
+        @Override
+        public int width() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void encode(ByteBuffer buffer, int offset, Double data) {
+            buffer.putDouble(offset, data);
+        }
+
+        @Override
+        public Double decode(ByteBuffer buffer, int offset) {
+            return buffer.getDouble(offset);
+        }
+    };
+
+    /**
+     * Returns a codec for fixed-length byte[] records. Records must be
+     * exactly the given length.
+     *
+     * @param length the number of bytes in each record
+     * @return the codec for records of the given length
+     * @throws java.lang.IllegalArgumentException if length < 1
+     */
+    static ElementCodec<byte[]> fixedLength(int length) {
+        if (length < 1) {
+            throw new IllegalArgumentException("The record length must be "
+                    + "at least 1.");
+        }
+        return new ElementCodec<byte[]>() {
+            @Override
+            public int width() {
+                return length;
+            }
+
+            @Override
+            public void encode(ByteBuffer buffer, int offset, byte[] data) {
+                if (data.length != length) {
+                    throw new IllegalArgumentException("The record must be "
+                            + length + " bytes long.");
+                }
+                buffer.put(offset, data);
+            }
+
+            @Override
+            public byte[] decode(ByteBuffer buffer, int offset) {
+                byte[] data = new byte[length];
+                buffer.get(offset, data);
+                return data;
+            }
+        };
+    }
+
+    /**
+     * Returns the number of bytes every encoded element takes up.
+     *
+     * @return the width of an encoded element in bytes
+     */
+    int width();
+
+    /**
+     * Writes the encoded form of the data into the buffer, starting at the
+     * given byte offset. Exactly width() bytes are written.
+     *
+     * @param buffer the buffer to write to
+     * @param offset the byte offset of the first byte to write
+     * @param data   the data to encode
+     */
+    void encode(ByteBuffer buffer, int offset, T data);
+
+    /**
+     * Reads the element whose encoded form starts at the given byte offset.
+     *
+     * @param buffer the buffer to read from
+     * @param offset the byte offset of the first byte to read
+     * @return the decoded data
+     */
+    T decode(ByteBuffer buffer, int offset);
+}
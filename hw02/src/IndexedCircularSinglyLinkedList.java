@@ -0,0 +1,378 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * The implementation of a CircularSinglyLinkedList whose nodes are slots in
+ * two parallel arrays instead of CircularSinglyLinkedListNode objects. Slot
+ * i holds its data in data[i] and the slot of the next node in next[i]; the
+ * next slot of the last node is the head slot.
+ *
+ * A ring of n elements is two arrays rather than n node objects, so it pays
+ * for no object headers or references per element and the garbage collector
+ * traces only the data. Removed slots are chained through the next array
+ * into a free list and reused by later adds. Slots that were never handed out
+ * sit above a high-water mark, so growing the arrays does not touch them.
+ *
+ * The list also keeps the slot of its last node, which a node-based list
+ * without a tail pointer cannot do for free, so adding to the back is O(1).
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ * @userid mnamgoong3
+ * @GTID 903684766
+ */
+public class IndexedCircularSinglyLinkedList<T> {
+
+    /**
+     * The initial capacity of the IndexedCircularSinglyLinkedList.
+     */
+    public static final int INITIAL_CAPACITY = 9;
+
+    private static final int NIL = -1;
+
+    private final int initialCapacity;
+    private T[] data;
+    private int[] next;
+    private int head;
+    private int tail;
+    private int size;
+    private int freeHead;
+    private int highWater;
+
+    /**
+     * Constructs a new IndexedCircularSinglyLinkedList with the initial
+     * capacity.
+     */
+    public IndexedCircularSinglyLinkedList() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs a new IndexedCircularSinglyLinkedList whose arrays start
+     * with room for initialCapacity elements.
+     *
+     * @param initialCapacity the number of slots to allocate up front
+     * @throws java.lang.IllegalArgumentException if initialCapacity < 1
+     */
+    public IndexedCircularSinglyLinkedList(int initialCapacity) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("The initial capacity must be "
+                    + "at least 1.");
+        }
+        this.initialCapacity = initialCapacity;
+        reset();
+    }
+
+    /**
+     * Adds the data to the specified index.
+     *
+     * O(1) for indices 0 and size. O(n) for all other cases. Amortized when
+     * the arrays have to grow.
+     *
+     * @param index the index at which to add the new data
+     * @param data  the data to add at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index > size
+     * @throws java.lang.IllegalArgumentException  if data is null
+     */
+    public void addAtIndex(int index, T data) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("The index cannot be less "
+                    + "than 0 or greater than " + size + ".");
+        }
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot insert null data into "
+                    + "the data structure.");
+        }
+        int slot = obtainSlot(data);
+        if (isEmpty()) {
+            next[slot] = slot;
+            head = slot;
+            tail = slot;
+        } else if (index == 0 || index == size) {
+            next[slot] = head;
+            next[tail] = slot;
+            if (index == 0) {
+                head = slot;
+            } else {
+                tail = slot;
+            }
+        } else {
+            int prev = slotAt(index - 1);
+            next[slot] = next[prev];
+            next[prev] = slot;
+        }
+        size++;
+    }
+
+    /**
+     * Adds the data to the front of the list.
+     *
+     * O(1) for all cases. Amortized when the arrays have to grow.
+     *
+     * @param data the data to add to the front of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToFront(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot insert null data into "
+                    + "the data structure.");
+        }
+        addAtIndex(0, data);
+    }
+
+    /**
+     * Adds the data to the back of the list.
+     *
+     * O(1) for all cases. Amortized when the arrays have to grow.
+     *
+     * @param data the data to add to the back of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToBack(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot insert null data into "
+                    + "the data structure.");
+        }
+        addAtIndex(size, data);
+    }
+
+    /**
+     * Removes and returns the data at the specified index.
+     *
+     * O(1) for index 0. O(n) for all other cases.
+     *
+     * @param index the index of the data to remove
+     * @return the data formerly located at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T removeAtIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The index cannot be less "
+                    + "than 0 or greater than or equal to " + size + ".");
+        }
+        if (index == 0) {
+            return unlinkAfter(tail);
+        }
+        return unlinkAfter(slotAt(index - 1));
+    }
+
+    /**
+     * Removes and returns the first data of the list.
+     *
+     * O(1) for all cases.
+     *
+     * @return the data formerly located at the front of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public T removeFromFront() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("The list is empty so there is "
+                    + "no data to remove.");
+        }
+        return removeAtIndex(0);
+    }
+
+    /**
+     * Removes and returns the last data of the list.
+     *
+     * O(n) for all cases.
+     *
+     * @return the data formerly located at the back of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public T removeFromBack() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("The list is empty so there is "
+                    + "no element to remove.");
+        }
+        return removeAtIndex(size - 1);
+    }
+
+    /**
+     * Returns the data at the specified index.
+     *
+     * O(1) for indices 0 and size - 1. O(n) for all other cases.
+     *
+     * @param index the index of the data to get
+     * @return the data stored at the index in the list
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The index cannot be less "
+                    + "than 0 or greater than or equal to " + size + ".");
+        }
+        return data[index == size - 1 ? tail : slotAt(index)];
+    }
+
+    /**
+     * Returns whether or not the list is empty.
+     *
+     * O(1) for all cases.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clears the list. Clears all data, resets the size and shrinks the
+     * arrays back to the initial capacity.
+     *
+     * O(1) for all cases.
+     */
+    public void clear() {
+        reset();
+    }
+
+    /**
+     * Removes and returns the last copy of the given data from the list.
+     * The slot before the last match is remembered during the walk, so the
+     * match is unlinked without a second walk.
+     *
+     * O(n) for all cases.
+     *
+     * @param data the data to be removed from the list
+     * @return the data that was removed
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.util.NoSuchElementException   if data is not found
+     */
+    public T removeLastOccurrence(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot remove null data from "
+                    + "the data structure.");
+        }
+        int prev = tail;
+        int matchPrev = NIL;
+        for (int i = 0; i < size; i++) {
+            int curr = next[prev];
+            if (this.data[curr] == data) {
+                matchPrev = prev;
+            }
+            prev = curr;
+        }
+        if (matchPrev == NIL) {
+            throw new NoSuchElementException("The data is not found in the "
+                    + "data structure.");
+        }
+        return unlinkAfter(matchPrev);
+    }
+
+    /**
+     * Returns an array representation of the linked list.
+     *
+     * O(n) for all cases.
+     *
+     * @return the array of length size holding all of the data in the list
+     * in the same order
+     */
+    public T[] toArray() {
+        T[] array = (T[]) new Object[size];
+        int curr = head;
+        for (int i = 0; i < size; i++) {
+            array[i] = data[curr];
+            curr = next[curr];
+        }
+        return array;
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of slots the arrays currently hold, in use or not.
+     *
+     * @return the capacity of the arrays
+     */
+    public int getCapacity() {
+        return data.length;
+    }
+
+    /**
+     * Returns the slot that holds the data at the given index.
+     *
+     * @param index the index, which must be in [0, size)
+     * @return the slot
+     */
+    private int slotAt(int index) {
+        int curr = head;
+        for (int i = 0; i < index; i++) {
+            curr = next[curr];
+        }
+        return curr;
+    }
+
+    /**
+     * Unlinks the node after the given slot and puts its slot on the free
+     * list. The list must not be empty.
+     *
+     * @param prev the slot before the node to unlink
+     * @return the data of the unlinked node
+     */
+    private T unlinkAfter(int prev) {
+        int slot = next[prev];
+        T removed = data[slot];
+        if (size == 1) {
+            head = NIL;
+            tail = NIL;
+        } else {
+            next[prev] = next[slot];
+            if (slot == head) {
+                head = next[slot];
+            }
+            if (slot == tail) {
+                tail = prev;
+            }
+        }
+        data[slot] = null;
+        next[slot] = freeHead;
+        freeHead = slot;
+        size--;
+        return removed;
+    }
+
+    /**
+     * Returns a slot holding the given data, taken from the free list if it
+     * has one, otherwise from above the high-water mark. The arrays double
+     * if every slot is in use.
+     *
+     * @param value the data for the slot
+     * @return the slot
+     */
+    private int obtainSlot(T value) {
+        int slot;
+        if (freeHead != NIL) {
+            slot = freeHead;
+            freeHead = next[slot];
+        } else {
+            if (highWater == data.length) {
+                int capacity = data.length * 2;
+                data = Arrays.copyOf(data, capacity);
+                next = Arrays.copyOf(next, capacity);
+            }
+            slot = highWater++;
+        }
+        data[slot] = value;
+        return slot;
+    }
+
+    /**
+     * Drops every slot and allocates arrays of the initial capacity.
+     */
+    private void reset() {
+        data = (T[]) new Object[initialCapacity];
+        next = new int[initialCapacity];
+        head = NIL;
+        tail = NIL;
+        size = 0;
+        freeHead = NIL;
+        highWater = 0;
+    }
+}
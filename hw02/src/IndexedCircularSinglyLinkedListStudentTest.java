@@ -0,0 +1,192 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * This is a basic set of unit tests for IndexedCircularSinglyLinkedList,
+ * mostly checking that it behaves exactly like CircularSinglyLinkedList.
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ */
+public class IndexedCircularSinglyLinkedListStudentTest {
+
+    private static final int TIMEOUT = 200;
+    private IndexedCircularSinglyLinkedList<String> list;
+    private CircularSinglyLinkedList<String> plain;
+
+    @Before
+    public void setUp() {
+        list = new IndexedCircularSinglyLinkedList<>();
+        plain = new CircularSinglyLinkedList<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testInitialization() {
+        assertEquals(0, list.size());
+        assertTrue(list.isEmpty());
+        assertEquals(IndexedCircularSinglyLinkedList.INITIAL_CAPACITY,
+                list.getCapacity());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAtIndex() {
+        add(0, "2a");   // 2a
+        add(0, "0a");   // 0a, 2a
+        add(1, "1a");   // 0a, 1a, 2a
+        add(3, "4a");   // 0a, 1a, 2a, 4a
+        add(3, "3a");   // 0a, 1a, 2a, 3a, 4a
+
+        assertArrayEquals(new Object[] {"0a", "1a", "2a", "3a", "4a"},
+                list.toArray());
+        assertMatches();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveAtIndex() {
+        for (int i = 0; i < 6; i++) {
+            add(i, i + "a");
+        }
+        remove(3);                  // 0a, 1a, 2a, 4a, 5a
+        remove(0);                  // 1a, 2a, 4a, 5a
+        remove(list.size() - 1);    // 1a, 2a, 4a
+        remove(1);                  // 1a, 4a
+
+        assertArrayEquals(new Object[] {"1a", "4a"}, list.toArray());
+        assertMatches();
+        remove(0);
+        remove(0);
+        assertTrue(list.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRandomOperations() {
+        Random random = new Random(1332);
+        for (int op = 0; op < 2000; op++) {
+            int choice = random.nextInt(10);
+            if (plain.isEmpty() || choice < 5) {
+                add(random.nextInt(plain.size() + 1), "" + op);
+            } else if (choice < 9) {
+                remove(random.nextInt(plain.size()));
+            } else {
+                String target = plain.get(random.nextInt(plain.size()));
+                assertSame(plain.removeLastOccurrence(target),
+                        list.removeLastOccurrence(target));
+            }
+            if (op % 100 == 0) {
+                assertMatches();
+            }
+        }
+        assertMatches();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testFreeSlotsReused() {
+        int capacity = list.getCapacity();
+        for (int i = 0; i < capacity; i++) {
+            add(i, i + "a");
+        }
+        for (int i = 0; i < 4; i++) {
+            remove(2);
+        }
+        for (int i = 0; i < 4; i++) {
+            add(1, "x" + i);
+        }
+        // The removed slots were reused, so the arrays did not grow
+        assertEquals(capacity, list.getCapacity());
+        assertMatches();
+
+        add(0, "y");
+        assertTrue(list.getCapacity() > capacity);
+        assertMatches();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveLastOccurrence() {
+        String temp = new String("2a");
+        add(0, "2a");
+        add(1, "1a");
+        add(2, temp);
+        add(3, "2a");   // 2a, 1a, temp, 2a
+
+        // Data is compared by reference, like CircularSinglyLinkedList
+        assertSame(plain.removeLastOccurrence(temp),
+                list.removeLastOccurrence(temp));
+        assertArrayEquals(new Object[] {"2a", "1a", "2a"}, list.toArray());
+        assertSame(plain.removeLastOccurrence("2a"),
+                list.removeLastOccurrence("2a"));
+        assertMatches();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testClear() {
+        for (int i = 0; i < 20; i++) {
+            list.addToBack(i + "a");
+        }
+        list.clear();
+        assertEquals(0, list.size());
+        assertEquals(IndexedCircularSinglyLinkedList.INITIAL_CAPACITY,
+                list.getCapacity());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveLastOccurrenceOfEqualCopy() {
+        list.addToBack("0a");
+        list.removeLastOccurrence(new String("0a"));
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        list.addToBack("0a");
+        list.get(1);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testAddOutOfBounds() {
+        list.addAtIndex(1, "0a");
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveFromEmpty() {
+        list.removeFromBack();
+    }
+
+    /**
+     * Adds the data at the index of both lists.
+     *
+     * @param index the index to add at
+     * @param data  the data to add
+     */
+    private void add(int index, String data) {
+        list.addAtIndex(index, data);
+        plain.addAtIndex(index, data);
+    }
+
+    /**
+     * Removes the data at the index of both lists and checks they agree.
+     *
+     * @param index the index to remove
+     */
+    private void remove(int index) {
+        assertSame(plain.removeAtIndex(index), list.removeAtIndex(index));
+    }
+
+    /**
+     * Checks that both lists hold the same data, by toArray and by get.
+     */
+    private void assertMatches() {
+        assertEquals(plain.size(), list.size());
+        Object[] expected = plain.toArray();
+        assertArrayEquals(expected, list.toArray());
+        for (int i = 0; i < expected.length; i++) {
+            assertSame(expected[i], list.get(i));
+        }
+    }
+}
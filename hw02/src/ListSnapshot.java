@@ -0,0 +1,230 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes CircularSinglyLinkedLists to and reads them from compact binary
+ * snapshots.
+ *
+ * A snapshot is a header followed by length-prefixed blocks. The header
+ * holds a magic number, the format version, the element width and the
+ * number of elements. Each block holds an element count followed by that
+ * many elements, each encoded by an ElementCodec into exactly width bytes.
+ * Everything is little-endian. Blocks are staged in one direct buffer and
+ * written to the FileChannel in a single call each, so a snapshot is
+ * written and read at close to the speed of the disk.
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ * @userid mnamgoong3
+ * @GTID 903684766
+ */
+public final class ListSnapshot {
+
+    /**
+     * The number of bytes of element data in a full block.
+     */
+    public static final int BLOCK_BYTES = 1 << 16;
+
+    private static final int MAGIC = 0x4C534E50;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private ListSnapshot() {
+    }
+
+    /**
+     * Writes a snapshot of the list to the given file, replacing anything
+     * already in it.
+     *
+     * O(n) for all cases.
+     *
+     * @param <T>   the type of the elements
+     * @param list  the list to write
+     * @param codec the codec used to encode the elements
+     * @param file  the file to write to
+     * @throws java.io.IOException                if the file cannot be written
+     * @throws java.lang.IllegalArgumentException if any argument is null
+     */
+    public static <T> void write(CircularSinglyLinkedList<T> list,
+                                 ElementCodec<T> codec, Path file)
+        throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("The file cannot be null.");
+        }
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(list, codec, channel);
+        }
+    }
+
+    /**
+     * Writes a snapshot of the list to the channel at its current position.
+     *
+     * O(n) for all cases.
+     *
+     * @param <T>     the type of the elements
+     * @param list    the list to write
+     * @param codec   the codec used to encode the elements
+     * @param channel the channel to write to
+     * @throws java.io.IOException                if the channel cannot be
+     *                                            written
+     * @throws java.lang.IllegalArgumentException if any argument is null
+     */
+    public static <T> void write(CircularSinglyLinkedList<T> list,
+                                 ElementCodec<T> codec, FileChannel channel)
+        throws IOException {
+        if (list == null || codec == null || channel == null) {
+            throw new IllegalArgumentException("The list, codec and channel "
+                    + "cannot be null.");
+        }
+        int width = codec.width();
+        int perBlock = Math.max(1, BLOCK_BYTES / width);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(Math.max(HEADER_BYTES,
+                Integer.BYTES + perBlock * width))
+                .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(width)
+                .putInt(list.size());
+        writeFully(channel, buffer);
+        // Walks the nodes once instead of calling get for every index
+        CircularSinglyLinkedListNode<T> curr = list.getHead();
+        for (int start = 0; start < list.size(); start += perBlock) {
+            int count = Math.min(perBlock, list.size() - start);
+            buffer.clear();
+            buffer.putInt(0, count);
+            for (int i = 0; i < count; i++) {
+                codec.encode(buffer, Integer.BYTES + i * width,
+                        curr.getData());
+                curr = curr.getNext();
+            }
+            buffer.position(Integer.BYTES + count * width);
+            writeFully(channel, buffer);
+        }
+    }
+
+    /**
+     * Reads the snapshot in the given file into a new
+     * CircularSinglyLinkedList.
+     *
+     * O(n) for all cases.
+     *
+     * @param <T>   the type of the elements
+     * @param codec the codec used to decode the elements
+     * @param file  the file to read from
+     * @return the restored list
+     * @throws java.io.IOException                if the file cannot be read or
+     *                                            is not a valid snapshot
+     * @throws java.lang.IllegalArgumentException if any argument is null
+     */
+    public static <T> CircularSinglyLinkedList<T> read(ElementCodec<T> codec,
+                                                       Path file)
+        throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("The file cannot be null.");
+        }
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.READ)) {
+            return read(codec, channel);
+        }
+    }
+
+    /**
+     * Reads the snapshot at the channel's current position into a new
+     * CircularSinglyLinkedList. Each decoded element is added to the back of
+     * the list in O(1).
+     *
+     * O(n) for all cases.
+     *
+     * @param <T>     the type of the elements
+     * @param codec   the codec used to decode the elements
+     * @param channel the channel to read from
+     * @return the restored list
+     * @throws java.io.IOException                if the channel cannot be read
+     *                                            or does not hold a valid
+     *                                            snapshot
+     * @throws java.lang.IllegalArgumentException if any argument is null
+     */
+    public static <T> CircularSinglyLinkedList<T> read(ElementCodec<T> codec,
+                                                       FileChannel channel)
+        throws IOException {
+        if (codec == null || channel == null) {
+            throw new IllegalArgumentException("The codec and channel cannot "
+                    + "be null.");
+        }
+        int width = codec.width();
+        int perBlock = Math.max(1, BLOCK_BYTES / width);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(Math.max(HEADER_BYTES,
+                Integer.BYTES + perBlock * width))
+                .order(ByteOrder.LITTLE_ENDIAN);
+        readFully(channel, buffer, HEADER_BYTES);
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("The channel does not hold a version "
+                    + VERSION + " list snapshot.");
+        }
+        if (buffer.getInt(8) != width) {
+            throw new IOException("The snapshot holds " + buffer.getInt(8)
+                    + "-byte elements, not " + width + "-byte elements.");
+        }
+        int size = buffer.getInt(12);
+        long remaining = channel.size() - channel.position();
+        if (size < 0 || size > remaining / width) {
+            throw new IOException("The snapshot claims " + size
+                    + " elements, but only " + remaining + " bytes follow "
+                    + "its header.");
+        }
+        CircularSinglyLinkedList<T> list = new CircularSinglyLinkedList<>();
+        while (list.size() < size) {
+            readFully(channel, buffer, Integer.BYTES);
+            int count = buffer.getInt(0);
+            if (count < 1 || count > perBlock || count > size - list.size()) {
+                throw new IOException("The snapshot has a corrupt block.");
+            }
+            readFully(channel, buffer, count * width);
+            for (int i = 0; i < count; i++) {
+                list.addToBack(codec.decode(buffer, i * width));
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Writes the buffer from position 0 up to its position to the channel.
+     *
+     * @param channel the channel to write to
+     * @param buffer  the buffer to write
+     * @throws java.io.IOException if the channel cannot be written
+     */
+    private static void writeFully(FileChannel channel, ByteBuffer buffer)
+        throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Reads exactly length bytes from the channel into the start of the
+     * buffer.
+     *
+     * @param channel the channel to read from
+     * @param buffer  the buffer to read into
+     * @param length  the number of bytes to read
+     * @throws java.io.IOException if the channel ends before length bytes
+     */
+    private static void readFully(FileChannel channel, ByteBuffer buffer,
+                                  int length) throws IOException {
+        buffer.clear().limit(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("The snapshot ends unexpectedly.");
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This is a basic set of unit tests for ListSnapshot.
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ */
+public class ListSnapshotStudentTest {
+
+    private static final int TIMEOUT = 2000;
+    private Path file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = Files.createTempFile("list", ".snapshot");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRoundTrip() throws IOException {
+        // Spans several blocks
+        CircularSinglyLinkedList<Long> list =
+                new CircularSinglyLinkedList<>();
+        for (long i = 0; i < 20000; i++) {
+            list.addToBack(i * 31);
+        }
+        ListSnapshot.write(list, ElementCodec.LONG, file);
+        CircularSinglyLinkedList<Long> restored =
+                ListSnapshot.read(ElementCodec.LONG, file);
+
+        assertEquals(20000, restored.size());
+        assertArrayEquals(list.toArray(), restored.toArray());
+        // The restored ring closes back on its head
+        CircularSinglyLinkedListNode<Long> curr = restored.getHead();
+        for (int i = 0; i < 20000; i++) {
+            curr = curr.getNext();
+        }
+        assertSame(restored.getHead(), curr);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testEmpty() throws IOException {
+        ListSnapshot.write(new CircularSinglyLinkedList<Integer>(),
+                ElementCodec.INT, file);
+        assertEquals(0, ListSnapshot.read(ElementCodec.INT, file).size());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IOException.class)
+    public void testWrongWidth() throws IOException {
+        CircularSinglyLinkedList<Integer> list =
+                new CircularSinglyLinkedList<>();
+        list.addToBack(1);
+        ListSnapshot.write(list, ElementCodec.INT, file);
+        ListSnapshot.read(ElementCodec.LONG, file);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IOException.class)
+    public void testCorruptSize() throws IOException {
+        CircularSinglyLinkedList<Integer> list =
+                new CircularSinglyLinkedList<>();
+        list.addToBack(1);
+        ListSnapshot.write(list, ElementCodec.INT, file);
+        // Claims far more elements than the file holds
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN)
+                    .putInt(0, Integer.MAX_VALUE), 12);
+        }
+        ListSnapshot.read(ElementCodec.INT, file);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IOException.class)
+    public void testTruncated() throws IOException {
+        CircularSinglyLinkedList<Integer> list =
+                new CircularSinglyLinkedList<>();
+        for (int i = 0; i < 100; i++) {
+            list.addToBack(i);
+        }
+        ListSnapshot.write(list, ElementCodec.INT, file);
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 8);
+        }
+        ListSnapshot.read(ElementCodec.INT, file);
+    }
+}
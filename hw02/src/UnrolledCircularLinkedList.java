@@ -0,0 +1,449 @@
+import java.util.NoSuchElementException;
+
+/**
+ * The implementation of an UnrolledCircularLinkedList, which is a circular
+ * singly-linked list where every node holds a small array of data instead of
+ * a single element. The next reference of the last node points to the first
+ * node, and the list keeps a reference to the last node (the tail) so that
+ * both ends are reachable in O(1).
+ *
+ * Packing many elements into each node means a traversal follows one
+ * pointer per node instead of one per element, and the per-element memory
+ * overhead of a node is spread over the whole array. A node that fills up is
+ * split in two; a node that drops below half full is merged with, or
+ * borrows from, the node after it. So every node except the tail stays at
+ * least half full, and indexed operations are O(n / B), where B is the node
+ * capacity.
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ * @userid mnamgoong3
+ * @GTID 903684766
+ */
+public class UnrolledCircularLinkedList<T> {
+
+    /**
+     * The default number of elements each node can hold.
+     */
+    public static final int DEFAULT_NODE_CAPACITY = 16;
+
+    private final int nodeCapacity;
+    private UnrolledNode<T> tail;
+    private int size;
+
+    /**
+     * Constructs a new UnrolledCircularLinkedList with the default node
+     * capacity.
+     */
+    public UnrolledCircularLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Constructs a new UnrolledCircularLinkedList whose nodes each hold up to
+     * nodeCapacity elements.
+     *
+     * @param nodeCapacity the number of elements each node can hold
+     * @throws java.lang.IllegalArgumentException if nodeCapacity < 2
+     */
+    public UnrolledCircularLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 2) {
+            throw new IllegalArgumentException("The node capacity must be at "
+                    + "least 2.");
+        }
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    /**
+     * Adds the data to the specified index. If the node the index falls in
+     * is full, it is split in two first.
+     *
+     * O(1) for indices 0 and size and O(n / B) for all other cases.
+     *
+     * @param index the index at which to add the new data
+     * @param data  the data to add at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index > size
+     * @throws java.lang.IllegalArgumentException  if data is null
+     */
+    public void addAtIndex(int index, T data) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("The index cannot be less "
+                    + "than 0 or greater than " + size + ".");
+        }
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot insert null data into "
+                    + "the data structure.");
+        }
+        if (isEmpty()) {
+            tail = new UnrolledNode<>(nodeCapacity);
+            tail.next = tail;
+        }
+        UnrolledNode<T> node;
+        int offset;
+        if (index == size) {
+            node = tail;
+            offset = tail.count;
+        } else {
+            node = tail.next;
+            offset = index;
+            while (offset > node.count) {
+                offset -= node.count;
+                node = node.next;
+            }
+        }
+        if (node.count == nodeCapacity) {
+            UnrolledNode<T> upper = split(node);
+            if (offset > node.count) {
+                offset -= node.count;
+                node = upper;
+            }
+        }
+        System.arraycopy(node.elements, offset, node.elements, offset + 1,
+                node.count - offset);
+        node.elements[offset] = data;
+        node.count++;
+        size++;
+    }
+
+    /**
+     * Adds the data to the front of the list.
+     *
+     * O(1) for all cases.
+     *
+     * @param data the data to add to the front of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToFront(T data) {
+        addAtIndex(0, data);
+    }
+
+    /**
+     * Adds the data to the back of the list.
+     *
+     * O(1) for all cases.
+     *
+     * @param data the data to add to the back of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToBack(T data) {
+        addAtIndex(size, data);
+    }
+
+    /**
+     * Removes and returns the data at the specified index. If the node the
+     * index falls in drops below half full, it is merged with or borrows
+     * from the node after it.
+     *
+     * O(1) for index 0 and O(n / B) for all other cases.
+     *
+     * @param index the index of the data to remove
+     * @return the data formerly located at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T removeAtIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The index cannot be less "
+                    + "than 0 or greater than or equal to " + size + ".");
+        }
+        UnrolledNode<T> prev = tail;
+        UnrolledNode<T> node = tail.next;
+        int offset = index;
+        while (offset >= node.count) {
+            offset -= node.count;
+            prev = node;
+            node = node.next;
+        }
+        return removeFromNode(prev, node, offset);
+    }
+
+    /**
+     * Removes and returns the first data of the list.
+     *
+     * O(1) for all cases.
+     *
+     * @return the data formerly located at the front of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public T removeFromFront() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("The list is empty so there is "
+                    + "no data to remove.");
+        }
+        return removeAtIndex(0);
+    }
+
+    /**
+     * Removes and returns the last data of the list.
+     *
+     * O(n / B) for all cases.
+     *
+     * @return the data formerly located at the back of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public T removeFromBack() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("The list is empty so there is "
+                    + "no element to remove.");
+        }
+        return removeAtIndex(size - 1);
+    }
+
+    /**
+     * Returns the data at the specified index.
+     *
+     * O(1) for index 0 and size - 1 and O(n / B) for all other cases.
+     *
+     * @param index the index of the data to get
+     * @return the data stored at the index in the list
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The index cannot be less than "
+                    + "0 or greater than or equal to " + size + ".");
+        }
+        if (index >= size - tail.count) {
+            return tail.elements[index - (size - tail.count)];
+        }
+        UnrolledNode<T> node = tail.next;
+        int offset = index;
+        while (offset >= node.count) {
+            offset -= node.count;
+            node = node.next;
+        }
+        return node.elements[offset];
+    }
+
+    /**
+     * Returns whether or not the list is empty.
+     *
+     * O(1) for all cases.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clears the list. Clears all data and resets the size.
+     *
+     * O(1) for all cases.
+     */
+    public void clear() {
+        tail = null;
+        size = 0;
+    }
+
+    /**
+     * Removes and returns the last copy of the given data from the list.
+     * Data is compared by reference, like in CircularSinglyLinkedList. The
+     * ring is walked once, remembering the node before the last match, so
+     * the match is removed from its node in place.
+     *
+     * O(n) for all cases.
+     *
+     * @param data the data to be removed from the list
+     * @return the data that was removed
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.util.NoSuchElementException   if data is not found
+     */
+    public T removeLastOccurrence(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot remove null data from "
+                    + "the data structure.");
+        }
+        UnrolledNode<T> foundPrev = null;
+        UnrolledNode<T> found = null;
+        int foundOffset = 0;
+        if (!isEmpty()) {
+            UnrolledNode<T> prev = tail;
+            do {
+                UnrolledNode<T> node = prev.next;
+                for (int i = 0; i < node.count; i++) {
+                    if (node.elements[i] == data) {
+                        foundPrev = prev;
+                        found = node;
+                        foundOffset = i;
+                    }
+                }
+                prev = node;
+            } while (prev != tail);
+        }
+        if (found == null) {
+            throw new NoSuchElementException("The data is not found in the "
+                    + "data structure.");
+        }
+        return removeFromNode(foundPrev, found, foundOffset);
+    }
+
+    /**
+     * Returns an array representation of the list. Each node is copied with
+     * a single block copy.
+     *
+     * O(n) for all cases.
+     *
+     * @return the array of length size holding all of the data in the list
+     * in the same order
+     */
+    public T[] toArray() {
+        T[] array = (T[]) new Object[size];
+        if (!isEmpty()) {
+            UnrolledNode<T> node = tail.next;
+            int start = 0;
+            do {
+                System.arraycopy(node.elements, 0, array, start, node.count);
+                start += node.count;
+                node = node.next;
+            } while (node != tail.next);
+        }
+        return array;
+    }
+
+    /**
+     * Returns the number of nodes in the list.
+     *
+     * O(n / B) for all cases.
+     *
+     * @return the number of nodes
+     */
+    public int nodeCount() {
+        if (isEmpty()) {
+            return 0;
+        }
+        int count = 0;
+        UnrolledNode<T> node = tail;
+        do {
+            count++;
+            node = node.next;
+        } while (node != tail);
+        return count;
+    }
+
+    /**
+     * Returns the number of elements each node can hold.
+     *
+     * @return the node capacity
+     */
+    public int getNodeCapacity() {
+        return nodeCapacity;
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes and returns the data at the given offset of a node, then
+     * unlinks the node if it is empty or rebalances it if it dropped below
+     * half full.
+     *
+     * @param prev   the node before the node
+     * @param node   the node holding the data
+     * @param offset the offset of the data in the node
+     * @return the removed data
+     */
+    private T removeFromNode(UnrolledNode<T> prev, UnrolledNode<T> node,
+                             int offset) {
+        T removed = node.elements[offset];
+        System.arraycopy(node.elements, offset + 1, node.elements, offset,
+                node.count - offset - 1);
+        node.count--;
+        node.elements[node.count] = null;
+        size--;
+        if (size == 0) {
+            tail = null;
+        } else if (node.count == 0) {
+            // Unlinks the emptied node
+            prev.next = node.next;
+            if (node == tail) {
+                tail = prev;
+            }
+        } else if (node != tail && node.count < nodeCapacity / 2) {
+            rebalance(node);
+        }
+        return removed;
+    }
+
+    /**
+     * Moves the upper half of a full node into a new node linked right after
+     * it.
+     *
+     * @param node the full node to split
+     * @return the new node holding the upper half
+     */
+    private UnrolledNode<T> split(UnrolledNode<T> node) {
+        UnrolledNode<T> upper = new UnrolledNode<>(nodeCapacity);
+        int keep = node.count / 2;
+        upper.count = node.count - keep;
+        System.arraycopy(node.elements, keep, upper.elements, 0, upper.count);
+        for (int i = keep; i < node.count; i++) {
+            node.elements[i] = null;
+        }
+        node.count = keep;
+        upper.next = node.next;
+        node.next = upper;
+        if (node == tail) {
+            tail = upper;
+        }
+        return upper;
+    }
+
+    /**
+     * Restores the half-full invariant of a node that is not the tail by
+     * merging the next node into it if both fit in one node, or otherwise by
+     * moving elements from the front of the next node until it is half full.
+     *
+     * @param node the node that dropped below half full
+     */
+    private void rebalance(UnrolledNode<T> node) {
+        UnrolledNode<T> next = node.next;
+        int moved;
+        if (node.count + next.count <= nodeCapacity) {
+            moved = next.count;
+        } else {
+            moved = nodeCapacity / 2 - node.count;
+        }
+        System.arraycopy(next.elements, 0, node.elements, node.count, moved);
+        node.count += moved;
+        System.arraycopy(next.elements, moved, next.elements, 0,
+                next.count - moved);
+        for (int i = next.count - moved; i < next.count; i++) {
+            next.elements[i] = null;
+        }
+        next.count -= moved;
+        if (next.count == 0) {
+            node.next = next.next;
+            if (next == tail) {
+                tail = node;
+            }
+        }
+    }
+
+    /**
+     * Node of an UnrolledCircularLinkedList, holding up to the node capacity
+     * of elements at the front of its array.
+     *
+     * @param <E> the type of the elements
+     */
+    private static class UnrolledNode<E> {
+
+        private final E[] elements;
+        private int count;
+        private UnrolledNode<E> next;
+
+        /**
+         * Constructs a new empty UnrolledNode.
+         *
+         * @param capacity the number of elements the node can hold
+         */
+        UnrolledNode(int capacity) {
+            elements = (E[]) new Object[capacity];
+        }
+    }
+}
@@ -0,0 +1,150 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+/**
+ * This is a basic set of unit tests for UnrolledCircularLinkedList.
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ */
+public class UnrolledCircularLinkedListStudentTest {
+
+    private static final int TIMEOUT = 200;
+    private UnrolledCircularLinkedList<String> list;
+
+    @Before
+    public void setUp() {
+        list = new UnrolledCircularLinkedList<>(4);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testInitialization() {
+        assertEquals(0, list.size());
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.nodeCount());
+        assertEquals(4, list.getNodeCapacity());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAndSplit() {
+        list.addToBack("1a");       // 1a
+        list.addToFront("0a");      // 0a, 1a
+        list.addToBack("3a");       // 0a, 1a, 3a
+        list.addAtIndex(2, "2a");   // 0a, 1a, 2a, 3a
+        assertEquals(1, list.nodeCount());
+
+        // The full node splits into [0a, 1a] and [2a, 3a, 4a]
+        list.addAtIndex(4, "4a");
+        assertEquals(2, list.nodeCount());
+        list.addAtIndex(2, "x");    // 0a, 1a, x, 2a, 3a, 4a
+
+        assertEquals(6, list.size());
+        Object[] expected = {"0a", "1a", "x", "2a", "3a", "4a"};
+        assertArrayEquals(expected, list.toArray());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], list.get(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveAndRebalance() {
+        for (int i = 0; i < 8; i++) {
+            list.addToBack(i + "a");
+        }
+        // Nodes: [0a, 1a], [2a, 3a], [4a, 5a, 6a, 7a]
+        assertEquals(3, list.nodeCount());
+
+        // [1a] drops below half full and merges with [2a, 3a]
+        assertEquals("0a", list.removeFromFront());
+        assertEquals(2, list.nodeCount());
+        assertEquals("7a", list.removeFromBack());
+        assertEquals("4a", list.removeAtIndex(3));
+        assertEquals("6a", list.removeFromBack());
+
+        assertArrayEquals(new Object[] {"1a", "2a", "3a", "5a"},
+                list.toArray());
+        while (!list.isEmpty()) {
+            list.removeFromFront();
+        }
+        assertEquals(0, list.nodeCount());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveLastOccurrence() {
+        String temp = new String("2a");
+        list.addToBack("0a");
+        list.addToBack("2a");
+        list.addToBack("1a");
+        list.addToBack(temp);
+        list.addToBack("2a");
+        list.addToBack("3a");   // 0a, 2a, 1a, temp, 2a, 3a
+
+        // Data is compared by reference, so only temp matches
+        assertSame(temp, list.removeLastOccurrence(temp));
+        assertArrayEquals(new Object[] {"0a", "2a", "1a", "2a", "3a"},
+                list.toArray());
+
+        // The literal "2a" is the same instance both times
+        assertSame("2a", list.removeLastOccurrence("2a"));
+        assertArrayEquals(new Object[] {"0a", "2a", "1a", "3a"},
+                list.toArray());
+        assertSame("3a", list.removeLastOccurrence("3a"));
+        assertSame("0a", list.removeLastOccurrence("0a"));
+        assertArrayEquals(new Object[] {"2a", "1a"}, list.toArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveLastOccurrenceAcrossNodes() {
+        String[] data = new String[12];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = i + "a";
+            list.addToBack(data[i]);
+        }
+        java.util.List<String> expected =
+                new java.util.ArrayList<>(java.util.Arrays.asList(data));
+        // Removes from the tail node, a middle node and the first node
+        int[] order = {11, 6, 0, 3, 10, 9, 1, 5};
+        for (int i : order) {
+            assertSame(data[i], list.removeLastOccurrence(data[i]));
+            expected.remove(data[i]);
+            assertArrayEquals(expected.toArray(), list.toArray());
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveLastOccurrenceOfEqualCopy() {
+        list.addToBack("0a");
+        list.removeLastOccurrence(new String("0a"));
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveLastOccurrenceFromEmpty() {
+        list.removeLastOccurrence("0a");
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        list.addToBack("0a");
+        list.get(1);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testAddNull() {
+        list.addToBack(null);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testNodeCapacityTooSmall() {
+        new UnrolledCircularLinkedList<String>(1);
+    }
+}
@@ -1,9 +1,14 @@
+import java.util.Arrays;
 import java.util.NoSuchElementException;
 
 /**
  * The implementation of an ArrayQueue, which is a Queue backed by an array.
  * Exhibits circular behavior.
  *
+ * In ring-buffer mode, the length of the backing array is always a power of
+ * two, so an index wraps around with a bitmask instead of a division. Every
+ * capacity the policy picks is rounded up to the next power of two.
+ *
  * @author Michelle Namgoong
  * @version 1.0
  * @userid mnamgoong3
@@ -14,24 +19,62 @@ public class ArrayQueue<T> {
 
     public static final int INITIAL_CAPACITY = 9;
 
+    private static final int MAX_POWER_OF_TWO = 1 << 30;
+
+    private final CapacityPolicy policy;
+    private final boolean ringBuffer;
     private T[] backingArray;
+    private int mask;
     private int front;
     private int size;
+    private int growCount;
+    private int shrinkCount;
 
     /**
      * Constructs a new ArrayQueue.
      */
     public ArrayQueue() {
-        this.backingArray = (T[]) new Object[INITIAL_CAPACITY];
+        this(CapacityPolicy.DEFAULT);
+    }
+
+    /**
+     * Constructs a new ArrayQueue that grows and shrinks according to the
+     * given policy.
+     *
+     * @param policy the policy deciding when the backing array is resized
+     * @throws java.lang.IllegalArgumentException if policy is null
+     */
+    public ArrayQueue(CapacityPolicy policy) {
+        this(policy, false);
+    }
+
+    /**
+     * Constructs a new ArrayQueue that grows and shrinks according to the
+     * given policy, optionally in ring-buffer mode.
+     *
+     * @param policy     the policy deciding when the backing array is resized
+     * @param ringBuffer whether to keep the length of the backing array at a
+     *                   power of two and wrap indices with a bitmask
+     * @throws java.lang.IllegalArgumentException if policy is null
+     */
+    public ArrayQueue(CapacityPolicy policy, boolean ringBuffer) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Policy cannot be null.");
+        }
+        this.policy = policy;
+        this.ringBuffer = ringBuffer;
+        int capacity = fitCapacity(policy.getInitialCapacity());
+        this.backingArray = (T[]) new Object[capacity];
+        this.mask = capacity - 1;
     }
 
     /**
      * Adds the data to the back of the queue.
      *
      * If sufficient space is not available in the backing array, the
-     * array is resized to double the current length. When resizing, the
-     * elements are copied to the beginning of the new array and front is reset
-     * to 0.
+     * array is grown according to the capacity policy, which by default
+     * doubles the current length. When resizing, the elements are copied to
+     * the beginning of the new array and front is reset to 0.
      *
      * Amortized O(1) runtime efficiency.
      *
@@ -43,27 +86,54 @@ public class ArrayQueue<T> {
             throw new IllegalArgumentException("Data cannot be null.");
         }
         if (size == backingArray.length) {
-            T[] oldArray = backingArray;
-            backingArray = (T[]) new Object[size * 2];
-            for (int i = 0; i < oldArray.length; i++) {
-                backingArray[i] = oldArray[(front + size) % oldArray.length];
-                front++;
-            }
-            front = 0;
+            resize(fitCapacity(policy.grow(backingArray.length, size + 1)));
+            growCount++;
         }
-        backingArray[(front + size) % backingArray.length] = data;
+        backingArray[wrap(front + size)] = data;
         size++;
     }
 
+    /**
+     * Adds all of the data to the back of the queue, in order. The backing
+     * array is grown at most once, and the data is copied into it with at
+     * most two block copies: up to the end of the array, then from its
+     * start. No data is added if any of it is null.
+     *
+     * O(k) amortized, where k is the length of data.
+     *
+     * @param data the data to add to the back of the queue
+     * @throws IllegalArgumentException if data or any of its elements is
+     *                                  null
+     */
+    public void enqueueAll(T[] data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null.");
+        }
+        for (T element : data) {
+            if (element == null) {
+                throw new IllegalArgumentException("Data cannot contain "
+                        + "null.");
+            }
+        }
+        ensureCapacity(size + data.length);
+        int back = wrap(front + size);
+        int firstPart = Math.min(data.length, backingArray.length - back);
+        System.arraycopy(data, 0, backingArray, back, firstPart);
+        System.arraycopy(data, firstPart, backingArray, 0,
+                data.length - firstPart);
+        size += data.length;
+    }
+
     /**
      * Removes and returns the data from the front of the queue.
      *
      * All spots that are dequeued from are replaced with null.
      *
      * If the queue becomes empty as a result of this call, front is not
-     * reset to 0.
+     * reset to 0. If the capacity policy shrinks on removal and the queue has
+     * become sparse, the backing array is shrunk and front is reset to 0.
      *
-     * O(1) runtime efficiency.
+     * Amortized O(1) runtime efficiency.
      *
      * @return the data formerly located at the front of the queue
      * @throws java.util.NoSuchElementException if the queue is empty
@@ -74,11 +144,49 @@ public class ArrayQueue<T> {
         }
         T popped = backingArray[front];
         backingArray[front] = null;
-        front = (front + 1) % backingArray.length;
+        front = wrap(front + 1);
         size--;
+        shrinkIfSparse();
         return popped;
     }
 
+    /**
+     * Removes up to max data from the front of the queue and stores them,
+     * in order, at the start of the given array. The data is moved with at
+     * most two block copies, and the vacated spots are replaced with null.
+     * The backing array is shrunk at most once, after the whole batch.
+     *
+     * O(k) amortized, where k is the number of data removed.
+     *
+     * @param out the array to store the removed data in
+     * @param max the largest number of data to remove
+     * @return the number of data removed, which is the smallest of max, the
+     * size of the queue and the length of out
+     * @throws IllegalArgumentException if out is null or max < 0
+     */
+    public int drainTo(T[] out, int max) {
+        if (out == null) {
+            throw new IllegalArgumentException("Output array cannot be "
+                    + "null.");
+        }
+        if (max < 0) {
+            throw new IllegalArgumentException("Max cannot be negative.");
+        }
+        int count = Math.min(Math.min(max, out.length), size);
+        if (count == 0) {
+            return 0;
+        }
+        int firstPart = Math.min(count, backingArray.length - front);
+        System.arraycopy(backingArray, front, out, 0, firstPart);
+        System.arraycopy(backingArray, 0, out, firstPart, count - firstPart);
+        Arrays.fill(backingArray, front, front + firstPart, null);
+        Arrays.fill(backingArray, 0, count - firstPart, null);
+        front = wrap(front + count);
+        size -= count;
+        shrinkIfSparse();
+        return count;
+    }
+
     /**
      * Returns the data from the front of the queue without removing it.
      *
@@ -112,4 +220,140 @@ public class ArrayQueue<T> {
         return size;
     }
 
+    /**
+     * Grows the backing array, if needed, so that it can hold at least the
+     * given number of elements without another resize.
+     *
+     * O(n) if the backing array is grown and O(1) otherwise.
+     *
+     * @param minCapacity the number of elements the queue must be able to
+     *                    hold
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > backingArray.length) {
+            resize(fitCapacity(policy.grow(backingArray.length,
+                    minCapacity)));
+            growCount++;
+        }
+    }
+
+    /**
+     * Shrinks the backing array so that its length is exactly the size of
+     * the queue. In ring-buffer mode, the length is the smallest power of
+     * two that holds the data instead.
+     *
+     * O(n) if the backing array is shrunk and O(1) otherwise.
+     */
+    public void trimToSize() {
+        int capacity = ringBuffer ? fitCapacity(Math.max(size, 1)) : size;
+        if (capacity < backingArray.length) {
+            resize(capacity);
+            shrinkCount++;
+        }
+    }
+
+    /**
+     * Returns whether the queue is in ring-buffer mode.
+     *
+     * @return true if the length of the backing array is kept at a power of
+     * two, false otherwise
+     */
+    public boolean isRingBuffer() {
+        return ringBuffer;
+    }
+
+    /**
+     * Returns the policy deciding when the backing array is resized.
+     *
+     * @return the capacity policy of the queue
+     */
+    public CapacityPolicy getCapacityPolicy() {
+        return policy;
+    }
+
+    /**
+     * Returns the number of times the backing array has grown.
+     *
+     * @return the number of grow events
+     */
+    public int getGrowCount() {
+        return growCount;
+    }
+
+    /**
+     * Returns the number of times the backing array has shrunk, including
+     * calls to trimToSize that shrank it.
+     *
+     * @return the number of shrink events
+     */
+    public int getShrinkCount() {
+        return shrinkCount;
+    }
+
+    /**
+     * Copies the data into the beginning of a new backing array of the given
+     * capacity and resets front to 0. The wrapped-around data is moved with
+     * two block copies: from front to the end of the old array, then from
+     * the start of the old array.
+     *
+     * @param capacity the length of the new backing array
+     */
+    private void resize(int capacity) {
+        T[] oldArray = backingArray;
+        backingArray = (T[]) new Object[capacity];
+        int firstPart = Math.min(size, oldArray.length - front);
+        System.arraycopy(oldArray, front, backingArray, 0, firstPart);
+        System.arraycopy(oldArray, 0, backingArray, firstPart,
+                size - firstPart);
+        front = 0;
+        mask = capacity - 1;
+    }
+
+    /**
+     * Shrinks the backing array if the capacity policy says the queue has
+     * become sparse.
+     */
+    private void shrinkIfSparse() {
+        int capacity = fitCapacity(policy.shrink(backingArray.length, size));
+        if (capacity < backingArray.length) {
+            resize(capacity);
+            shrinkCount++;
+        }
+    }
+
+    /**
+     * Wraps an index that may have run past the end of the backing array by
+     * less than its length. In ring-buffer mode this is a bitmask; otherwise
+     * the length is subtracted once, which avoids a division.
+     *
+     * @param index the index, in [0, 2 * length)
+     * @return the index wrapped into [0, length)
+     */
+    private int wrap(int index) {
+        if (ringBuffer) {
+            return index & mask;
+        }
+        return index < backingArray.length ? index
+                : index - backingArray.length;
+    }
+
+    /**
+     * Returns the capacity to actually use for the one the policy picked:
+     * in ring-buffer mode, the next power of two at or above it.
+     *
+     * @param capacity the capacity the policy picked
+     * @return the capacity to use
+     */
+    private int fitCapacity(int capacity) {
+        if (!ringBuffer) {
+            return capacity;
+        }
+        if (capacity <= 1) {
+            return 1;
+        }
+        if (capacity > MAX_POWER_OF_TWO) {
+            return MAX_POWER_OF_TWO;
+        }
+        return Integer.highestOneBit(capacity - 1) << 1;
+    }
 }
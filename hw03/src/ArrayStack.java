@@ -11,21 +11,40 @@ public class ArrayStack<T> {
 
     public static final int INITIAL_CAPACITY = 9;
 
+    private final CapacityPolicy policy;
     private T[] backingArray;
     private int size;
+    private int growCount;
+    private int shrinkCount;
 
     /**
      * Constructs a new ArrayStack.
      */
     public ArrayStack() {
-        this.backingArray = (T[]) new Object[INITIAL_CAPACITY];
+        this(CapacityPolicy.DEFAULT);
+    }
+
+    /**
+     * Constructs a new ArrayStack that grows and shrinks according to the
+     * given policy.
+     *
+     * @param policy the policy deciding when the backing array is resized
+     * @throws java.lang.IllegalArgumentException if policy is null
+     */
+    public ArrayStack(CapacityPolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Policy cannot be null.");
+        }
+        this.policy = policy;
+        this.backingArray = (T[]) new Object[policy.getInitialCapacity()];
     }
 
     /**
      * Adds the data to the top of the stack.
      *
      * If sufficient space is not available in the backing array, the
-     * array is resizded to double the current length.
+     * array is grown according to the capacity policy, which by default
+     * doubles the current length.
      *
      * Amortized O(1) runtime efficiency.
      *
@@ -37,11 +56,8 @@ public class ArrayStack<T> {
             throw new IllegalArgumentException("Data cannot be null.");
         }
         if (size == backingArray.length) {
-            T[] oldArray = backingArray;
-            backingArray = (T[]) new Object[size * 2];
-            for (int i = 0; i < oldArray.length; i++) {
-                backingArray[i] = oldArray[i];
-            }
+            resize(policy.grow(backingArray.length, size + 1));
+            growCount++;
         }
         backingArray[size] = data;
         size++;
@@ -50,9 +66,11 @@ public class ArrayStack<T> {
     /**
      * Removes and returns the data from the top of the stack.
      *
-     * All spots that are popped from are replaced with null.
+     * All spots that are popped from are replaced with null. If the capacity
+     * policy shrinks on removal and the stack has become sparse, the backing
+     * array is shrunk.
      *
-     * O(1) runtime efficiency.
+     * Amortized O(1) runtime efficiency.
      *
      * @return the data formerly located at the top of the stack
      * @throws java.util.NoSuchElementException if the stack is empty
@@ -64,6 +82,11 @@ public class ArrayStack<T> {
         T popped = backingArray[size - 1];
         backingArray[size - 1] = null;
         size--;
+        int capacity = policy.shrink(backingArray.length, size);
+        if (capacity < backingArray.length) {
+            resize(capacity);
+            shrinkCount++;
+        }
         return popped;
     }
 
@@ -99,4 +122,72 @@ public class ArrayStack<T> {
     public int size() {
         return size;
     }
+
+    /**
+     * Grows the backing array, if needed, so that it can hold at least the
+     * given number of elements without another resize.
+     *
+     * O(n) if the backing array is grown and O(1) otherwise.
+     *
+     * @param minCapacity the number of elements the stack must be able to
+     *                    hold
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > backingArray.length) {
+            resize(policy.grow(backingArray.length, minCapacity));
+            growCount++;
+        }
+    }
+
+    /**
+     * Shrinks the backing array so that its length is exactly the size of
+     * the stack.
+     *
+     * O(n) if the backing array is shrunk and O(1) otherwise.
+     */
+    public void trimToSize() {
+        if (size < backingArray.length) {
+            resize(size);
+            shrinkCount++;
+        }
+    }
+
+    /**
+     * Returns the policy deciding when the backing array is resized.
+     *
+     * @return the capacity policy of the stack
+     */
+    public CapacityPolicy getCapacityPolicy() {
+        return policy;
+    }
+
+    /**
+     * Returns the number of times the backing array has grown.
+     *
+     * @return the number of grow events
+     */
+    public int getGrowCount() {
+        return growCount;
+    }
+
+    /**
+     * Returns the number of times the backing array has shrunk, including
+     * calls to trimToSize that shrank it.
+     *
+     * @return the number of shrink events
+     */
+    public int getShrinkCount() {
+        return shrinkCount;
+    }
+
+    /**
+     * Copies the data into a new backing array of the given capacity.
+     *
+     * @param capacity the length of the new backing array
+     */
+    private void resize(int capacity) {
+        T[] oldArray = backingArray;
+        backingArray = (T[]) new Object[capacity];
+        System.arraycopy(oldArray, 0, backingArray, 0, size);
+    }
 }
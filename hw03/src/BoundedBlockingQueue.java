@@ -0,0 +1,304 @@
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The implementation of a BoundedBlockingQueue, which is a thread-safe,
+ * fixed-capacity queue backed by an ArrayQueue. A thread that puts into a
+ * full queue or takes from an empty one blocks until another thread makes
+ * room or adds data, or until its timeout runs out.
+ *
+ * Every operation holds one ReentrantLock, and waiting threads wait on one
+ * of its two Conditions: notFull for producers and notEmpty for consumers.
+ * Unlike synchronized and Object.wait, a Condition wait unmounts a virtual
+ * thread instead of pinning its carrier thread, so thousands of virtual
+ * producers and consumers can block on the queue at once.
+ *
+ * The backing ArrayQueue is sized to the capacity up front and never
+ * resized.
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ * @userid mnamgoong3
+ * @GTID 903684766
+ */
+public class BoundedBlockingQueue<T> {
+
+    private final int capacity;
+    private final ArrayQueue<T> queue;
+    private final ReentrantLock lock;
+    private final Condition notEmpty;
+    private final Condition notFull;
+
+    /**
+     * Constructs a new BoundedBlockingQueue that holds up to capacity data.
+     *
+     * @param capacity the largest number of data the queue holds
+     * @throws java.lang.IllegalArgumentException if capacity < 1
+     */
+    public BoundedBlockingQueue(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be at "
+                    + "least 1.");
+        }
+        this.capacity = capacity;
+        this.queue = new ArrayQueue<>(new CapacityPolicy(2.0, 0.0, capacity));
+        this.lock = new ReentrantLock();
+        this.notEmpty = lock.newCondition();
+        this.notFull = lock.newCondition();
+    }
+
+    /**
+     * Adds the data to the back of the queue, waiting for room if the queue
+     * is full.
+     *
+     * O(1) plus the time spent waiting.
+     *
+     * @param data the data to add to the back of the queue
+     * @throws IllegalArgumentException       if data is null
+     * @throws java.lang.InterruptedException if the thread is interrupted
+     *                                        while waiting
+     */
+    public void put(T data) throws InterruptedException {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null.");
+        }
+        lock.lockInterruptibly();
+        try {
+            while (queue.size() == capacity) {
+                notFull.await();
+            }
+            enqueue(data);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds the data to the back of the queue if there is room, without
+     * waiting.
+     *
+     * O(1) for all cases.
+     *
+     * @param data the data to add to the back of the queue
+     * @return true if the data was added, false if the queue was full
+     * @throws IllegalArgumentException if data is null
+     */
+    public boolean offer(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null.");
+        }
+        lock.lock();
+        try {
+            if (queue.size() == capacity) {
+                return false;
+            }
+            enqueue(data);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds the data to the back of the queue, waiting up to the given time
+     * for room if the queue is full.
+     *
+     * O(1) plus the time spent waiting.
+     *
+     * @param data    the data to add to the back of the queue
+     * @param timeout the longest time to wait, in units of unit
+     * @param unit    the unit of timeout
+     * @return true if the data was added, false if the time ran out first
+     * @throws IllegalArgumentException       if data or unit is null
+     * @throws java.lang.InterruptedException if the thread is interrupted
+     *                                        while waiting
+     */
+    public boolean offer(T data, long timeout, TimeUnit unit)
+        throws InterruptedException {
+        if (data == null || unit == null) {
+            throw new IllegalArgumentException("Data and unit cannot be "
+                    + "null.");
+        }
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (queue.size() == capacity) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            enqueue(data);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the data from the front of the queue, waiting for
+     * data if the queue is empty.
+     *
+     * O(1) plus the time spent waiting.
+     *
+     * @return the data formerly located at the front of the queue
+     * @throws java.lang.InterruptedException if the thread is interrupted
+     *                                        while waiting
+     */
+    public T take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (queue.size() == 0) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the data from the front of the queue if there is
+     * any, without waiting.
+     *
+     * O(1) for all cases.
+     *
+     * @return the data formerly located at the front of the queue, or null
+     * if the queue was empty
+     */
+    public T poll() {
+        lock.lock();
+        try {
+            return queue.size() == 0 ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the data from the front of the queue, waiting up
+     * to the given time for data if the queue is empty.
+     *
+     * O(1) plus the time spent waiting.
+     *
+     * @param timeout the longest time to wait, in units of unit
+     * @param unit    the unit of timeout
+     * @return the data formerly located at the front of the queue, or null
+     * if the time ran out first
+     * @throws IllegalArgumentException       if unit is null
+     * @throws java.lang.InterruptedException if the thread is interrupted
+     *                                        while waiting
+     */
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        if (unit == null) {
+            throw new IllegalArgumentException("Unit cannot be null.");
+        }
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (queue.size() == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes up to max data from the front of the queue, without waiting,
+     * and stores them, in order, at the start of the given array. The lock
+     * is taken once for the whole batch.
+     *
+     * O(k) for all cases, where k is the number of data removed.
+     *
+     * @param out the array to store the removed data in
+     * @param max the largest number of data to remove
+     * @return the number of data removed
+     * @throws IllegalArgumentException if out is null or max < 0
+     */
+    public int drainTo(T[] out, int max) {
+        if (out == null) {
+            throw new IllegalArgumentException("Output array cannot be "
+                    + "null.");
+        }
+        if (max < 0) {
+            throw new IllegalArgumentException("Max cannot be negative.");
+        }
+        lock.lock();
+        try {
+            int count = queue.drainTo(out, max);
+            if (count > 0) {
+                notFull.signalAll();
+            }
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of data in the queue. With other threads running,
+     * this is only a snapshot.
+     *
+     * O(1) for all cases.
+     *
+     * @return the size of the queue
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of data that can be added before the queue is
+     * full. With other threads running, this is only a snapshot.
+     *
+     * O(1) for all cases.
+     *
+     * @return the remaining capacity of the queue
+     */
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    /**
+     * Returns the largest number of data the queue holds.
+     *
+     * @return the capacity of the queue
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Adds the data to the backing queue and wakes one waiting consumer. The
+     * lock must be held and the queue must not be full.
+     *
+     * @param data the data to add
+     */
+    private void enqueue(T data) {
+        queue.enqueue(data);
+        notEmpty.signal();
+    }
+
+    /**
+     * Removes the data from the backing queue and wakes one waiting
+     * producer. The lock must be held and the queue must not be empty.
+     *
+     * @return the removed data
+     */
+    private T dequeue() {
+        T data = queue.dequeue();
+        notFull.signal();
+        return data;
+    }
+}
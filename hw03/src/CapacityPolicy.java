@@ -0,0 +1,127 @@
+/**
+ * A policy that decides how the backing array of an array-backed data
+ * structure grows and shrinks.
+ *
+ * The array grows by the growth factor whenever it is full. If the shrink
+ * threshold is positive, the array also shrinks after a removal leaves it at
+ * or below that fraction of its capacity. It shrinks to size * growthFactor,
+ * which leaves the load between the shrink threshold and full. The gap
+ * between the two triggers is the hysteresis: a structure that hovers
+ * around one size never resizes back and forth.
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ * @userid mnamgoong3
+ * @GTID 903684766
+ */
+public class CapacityPolicy {
+
+    /**
+     * The policy the data structures use by default: start at a capacity of
+     * 9, double when full and never shrink.
+     */
+    public static final CapacityPolicy DEFAULT = new CapacityPolicy(2.0, 0.0,
+            9);
+
+    private final double growthFactor;
+    private final double shrinkThreshold;
+    private final int initialCapacity;
+
+    /**
+     * Constructs a new CapacityPolicy.
+     *
+     * @param growthFactor    the factor the capacity is multiplied by when
+     *                        the backing array is full
+     * @param shrinkThreshold the load at or below which the backing array
+     *                        shrinks after a removal, or 0 to never shrink
+     * @param initialCapacity the capacity of a new or cleared backing array,
+     *                        which is also the smallest capacity the array
+     *                        shrinks to
+     * @throws java.lang.IllegalArgumentException if growthFactor <= 1,
+     *                                            shrinkThreshold < 0,
+     *                                            shrinkThreshold >=
+     *                                            1 / growthFactor or
+     *                                            initialCapacity < 1
+     */
+    public CapacityPolicy(double growthFactor, double shrinkThreshold,
+                          int initialCapacity) {
+        if (!(growthFactor > 1.0)) {
+            throw new IllegalArgumentException("The growth factor must be "
+                    + "greater than 1.");
+        }
+        if (shrinkThreshold < 0.0 || shrinkThreshold >= 1.0 / growthFactor) {
+            throw new IllegalArgumentException("The shrink threshold must be "
+                    + "at least 0 and less than 1 / growthFactor.");
+        }
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("The initial capacity must be "
+                    + "at least 1.");
+        }
+        this.growthFactor = growthFactor;
+        this.shrinkThreshold = shrinkThreshold;
+        this.initialCapacity = initialCapacity;
+    }
+
+    /**
+     * Returns the capacity a full backing array should grow to so that it
+     * can hold at least the required number of elements. That is the
+     * capacity times the growth factor, or exactly the required number of
+     * elements if that is larger, so pre-sizing for a bulk load does not
+     * overshoot.
+     *
+     * @param capacity the current capacity
+     * @param required the number of elements the array must hold
+     * @return the new capacity, which is at least required
+     */
+    public int grow(int capacity, int required) {
+        long grown = Math.max((long) Math.ceil(capacity * growthFactor),
+                capacity + 1L);
+        return (int) Math.max(Math.min(grown, Integer.MAX_VALUE - 8),
+                required);
+    }
+
+    /**
+     * Returns the capacity the backing array should shrink to after a
+     * removal, or the current capacity if it should not shrink.
+     *
+     * @param capacity the current capacity
+     * @param size     the number of elements left in the array
+     * @return the new capacity, which is at least size
+     */
+    public int shrink(int capacity, int size) {
+        if (shrinkThreshold == 0.0 || capacity <= initialCapacity
+                || size > capacity * shrinkThreshold) {
+            return capacity;
+        }
+        int shrunk = (int) Math.ceil(size * growthFactor);
+        return Math.max(initialCapacity, Math.max(shrunk, size));
+    }
+
+    /**
+     * Returns the growth factor.
+     *
+     * @return the factor the capacity is multiplied by when growing
+     */
+    public double getGrowthFactor() {
+        return growthFactor;
+    }
+
+    /**
+     * Returns the shrink threshold.
+     *
+     * @return the load at or below which the array shrinks, or 0 if it never
+     * shrinks
+     */
+    public double getShrinkThreshold() {
+        return shrinkThreshold;
+    }
+
+    /**
+     * Returns the initial capacity.
+     *
+     * @return the capacity of a new or cleared backing array
+     */
+    public int getInitialCapacity() {
+        return initialCapacity;
+    }
+}
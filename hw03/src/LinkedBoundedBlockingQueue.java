@@ -0,0 +1,425 @@
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The implementation of a LinkedBoundedBlockingQueue, which is a
+ * thread-safe, optionally bounded queue backed by a singly-linked list of
+ * LinkedNodes, like a LinkedQueue. A thread that puts into a full queue or
+ * takes from an empty one blocks until another thread makes room or adds
+ * data, or until its timeout runs out.
+ *
+ * Producers and consumers use separate locks: puts hold putLock and wait on
+ * its notFull Condition, and takes hold takeLock and wait on its notEmpty
+ * Condition, so a put and a take never contend with each other. This works
+ * because the list always starts with a dummy node: a put only links a node
+ * after the tail, and a take only moves the head to the node after it, so
+ * the two never touch the same reference. The size is an AtomicInteger
+ * that both sides update, and it is what makes a put's node visible to a
+ * take. A side only takes the other side's lock to signal it when the queue
+ * was full or empty before, so most operations take one lock.
+ *
+ * Like BoundedBlockingQueue, every wait is on a ReentrantLock Condition,
+ * which unmounts a virtual thread instead of pinning its carrier thread.
+ *
+ * Since LinkedNode has no setter for its data, the node a take moves the
+ * head to keeps its data, so the data most recently taken stays reachable
+ * until the next take.
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ * @userid mnamgoong3
+ * @GTID 903684766
+ */
+public class LinkedBoundedBlockingQueue<T> {
+
+    private final int capacity;
+    private final AtomicInteger size;
+    private LinkedNode<T> head;
+    private LinkedNode<T> tail;
+    private final ReentrantLock takeLock;
+    private final Condition notEmpty;
+    private final ReentrantLock putLock;
+    private final Condition notFull;
+
+    /**
+     * Constructs a new LinkedBoundedBlockingQueue with no practical bound:
+     * it holds up to Integer.MAX_VALUE data.
+     */
+    public LinkedBoundedBlockingQueue() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructs a new LinkedBoundedBlockingQueue that holds up to capacity
+     * data.
+     *
+     * @param capacity the largest number of data the queue holds
+     * @throws java.lang.IllegalArgumentException if capacity < 1
+     */
+    public LinkedBoundedBlockingQueue(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be at "
+                    + "least 1.");
+        }
+        this.capacity = capacity;
+        this.size = new AtomicInteger();
+        this.head = new LinkedNode<>(null);
+        this.tail = head;
+        this.takeLock = new ReentrantLock();
+        this.notEmpty = takeLock.newCondition();
+        this.putLock = new ReentrantLock();
+        this.notFull = putLock.newCondition();
+    }
+
+    /**
+     * Adds the data to the back of the queue, waiting for room if the queue
+     * is full.
+     *
+     * O(1) plus the time spent waiting.
+     *
+     * @param data the data to add to the back of the queue
+     * @throws IllegalArgumentException       if data is null
+     * @throws java.lang.InterruptedException if the thread is interrupted
+     *                                        while waiting
+     */
+    public void put(T data) throws InterruptedException {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null.");
+        }
+        int oldSize;
+        putLock.lockInterruptibly();
+        try {
+            while (size.get() == capacity) {
+                notFull.await();
+            }
+            oldSize = enqueue(data);
+        } finally {
+            putLock.unlock();
+        }
+        if (oldSize == 0) {
+            signalNotEmpty();
+        }
+    }
+
+    /**
+     * Adds the data to the back of the queue if there is room, without
+     * waiting.
+     *
+     * O(1) for all cases.
+     *
+     * @param data the data to add to the back of the queue
+     * @return true if the data was added, false if the queue was full
+     * @throws IllegalArgumentException if data is null
+     */
+    public boolean offer(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null.");
+        }
+        if (size.get() == capacity) {
+            return false;
+        }
+        int oldSize;
+        putLock.lock();
+        try {
+            if (size.get() == capacity) {
+                return false;
+            }
+            oldSize = enqueue(data);
+        } finally {
+            putLock.unlock();
+        }
+        if (oldSize == 0) {
+            signalNotEmpty();
+        }
+        return true;
+    }
+
+    /**
+     * Adds the data to the back of the queue, waiting up to the given time
+     * for room if the queue is full.
+     *
+     * O(1) plus the time spent waiting.
+     *
+     * @param data    the data to add to the back of the queue
+     * @param timeout the longest time to wait, in units of unit
+     * @param unit    the unit of timeout
+     * @return true if the data was added, false if the time ran out first
+     * @throws IllegalArgumentException       if data or unit is null
+     * @throws java.lang.InterruptedException if the thread is interrupted
+     *                                        while waiting
+     */
+    public boolean offer(T data, long timeout, TimeUnit unit)
+        throws InterruptedException {
+        if (data == null || unit == null) {
+            throw new IllegalArgumentException("Data and unit cannot be "
+                    + "null.");
+        }
+        long nanos = unit.toNanos(timeout);
+        int oldSize;
+        putLock.lockInterruptibly();
+        try {
+            while (size.get() == capacity) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            oldSize = enqueue(data);
+        } finally {
+            putLock.unlock();
+        }
+        if (oldSize == 0) {
+            signalNotEmpty();
+        }
+        return true;
+    }
+
+    /**
+     * Removes and returns the data from the front of the queue, waiting for
+     * data if the queue is empty.
+     *
+     * O(1) plus the time spent waiting.
+     *
+     * @return the data formerly located at the front of the queue
+     * @throws java.lang.InterruptedException if the thread is interrupted
+     *                                        while waiting
+     */
+    public T take() throws InterruptedException {
+        T taken;
+        int oldSize;
+        takeLock.lockInterruptibly();
+        try {
+            while (size.get() == 0) {
+                notEmpty.await();
+            }
+            taken = dequeue();
+            oldSize = size.getAndDecrement();
+            if (oldSize > 1) {
+                notEmpty.signal();
+            }
+        } finally {
+            takeLock.unlock();
+        }
+        if (oldSize == capacity) {
+            signalNotFull();
+        }
+        return taken;
+    }
+
+    /**
+     * Removes and returns the data from the front of the queue if there is
+     * any, without waiting.
+     *
+     * O(1) for all cases.
+     *
+     * @return the data formerly located at the front of the queue, or null
+     * if the queue was empty
+     */
+    public T poll() {
+        if (size.get() == 0) {
+            return null;
+        }
+        T polled;
+        int oldSize;
+        takeLock.lock();
+        try {
+            if (size.get() == 0) {
+                return null;
+            }
+            polled = dequeue();
+            oldSize = size.getAndDecrement();
+            if (oldSize > 1) {
+                notEmpty.signal();
+            }
+        } finally {
+            takeLock.unlock();
+        }
+        if (oldSize == capacity) {
+            signalNotFull();
+        }
+        return polled;
+    }
+
+    /**
+     * Removes and returns the data from the front of the queue, waiting up
+     * to the given time for data if the queue is empty.
+     *
+     * O(1) plus the time spent waiting.
+     *
+     * @param timeout the longest time to wait, in units of unit
+     * @param unit    the unit of timeout
+     * @return the data formerly located at the front of the queue, or null
+     * if the time ran out first
+     * @throws IllegalArgumentException       if unit is null
+     * @throws java.lang.InterruptedException if the thread is interrupted
+     *                                        while waiting
+     */
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        if (unit == null) {
+            throw new IllegalArgumentException("Unit cannot be null.");
+        }
+        long nanos = unit.toNanos(timeout);
+        T polled;
+        int oldSize;
+        takeLock.lockInterruptibly();
+        try {
+            while (size.get() == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            polled = dequeue();
+            oldSize = size.getAndDecrement();
+            if (oldSize > 1) {
+                notEmpty.signal();
+            }
+        } finally {
+            takeLock.unlock();
+        }
+        if (oldSize == capacity) {
+            signalNotFull();
+        }
+        return polled;
+    }
+
+    /**
+     * Removes up to max data from the front of the queue, without waiting,
+     * and stores them, in order, at the start of the given array. The take
+     * lock is taken once and the size is updated once for the whole batch.
+     *
+     * O(k) for all cases, where k is the number of data removed.
+     *
+     * @param out the array to store the removed data in
+     * @param max the largest number of data to remove
+     * @return the number of data removed
+     * @throws IllegalArgumentException if out is null or max < 0
+     */
+    public int drainTo(T[] out, int max) {
+        if (out == null) {
+            throw new IllegalArgumentException("Output array cannot be "
+                    + "null.");
+        }
+        if (max < 0) {
+            throw new IllegalArgumentException("Max cannot be negative.");
+        }
+        int count;
+        int oldSize;
+        takeLock.lock();
+        try {
+            count = Math.min(Math.min(max, out.length), size.get());
+            if (count == 0) {
+                return 0;
+            }
+            for (int i = 0; i < count; i++) {
+                out[i] = dequeue();
+            }
+            oldSize = size.getAndAdd(-count);
+            if (oldSize > count) {
+                notEmpty.signal();
+            }
+        } finally {
+            takeLock.unlock();
+        }
+        if (oldSize == capacity) {
+            signalNotFull();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of data in the queue. With other threads running,
+     * this is only a snapshot.
+     *
+     * O(1) for all cases.
+     *
+     * @return the size of the queue
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Returns the number of data that can be added before the queue is
+     * full. With other threads running, this is only a snapshot.
+     *
+     * O(1) for all cases.
+     *
+     * @return the remaining capacity of the queue
+     */
+    public int remainingCapacity() {
+        return capacity - size.get();
+    }
+
+    /**
+     * Returns the largest number of data the queue holds.
+     *
+     * @return the capacity of the queue
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Links a node holding the data after the tail, wakes one more waiting
+     * producer if there is still room, and returns the size before the add.
+     * The put lock must be held and the queue must not be full.
+     *
+     * @param data the data to add
+     * @return the size of the queue before the add
+     */
+    private int enqueue(T data) {
+        LinkedNode<T> node = new LinkedNode<>(data);
+        tail.setNext(node);
+        tail = node;
+        // Publishes the node to takers, which read the size first
+        int oldSize = size.getAndIncrement();
+        if (oldSize + 1 < capacity) {
+            notFull.signal();
+        }
+        return oldSize;
+    }
+
+    /**
+     * Moves the head to the first node, which becomes the new dummy node,
+     * and returns its data. The take lock must be held and the queue must
+     * not be empty; the caller updates the size.
+     *
+     * @return the data of the first node
+     */
+    private T dequeue() {
+        LinkedNode<T> oldHead = head;
+        head = oldHead.getNext();
+        // Points the old dummy at itself, so it keeps no node reachable
+        oldHead.setNext(oldHead);
+        return head.getData();
+    }
+
+    /**
+     * Wakes one consumer waiting for data. Called by a producer, without
+     * the put lock held, after it adds to an empty queue.
+     */
+    private void signalNotEmpty() {
+        takeLock.lock();
+        try {
+            notEmpty.signal();
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    /**
+     * Wakes one producer waiting for room. Called by a consumer, without the
+     * take lock held, after it removes from a full queue.
+     */
+    private void signalNotFull() {
+        putLock.lock();
+        try {
+            notFull.signal();
+        } finally {
+            putLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,259 @@
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The implementation of a MpmcArrayQueue, which is a bounded, lock-free
+ * queue that any number of producer and consumer threads can use at once.
+ * Like an ArrayQueue in ring-buffer mode, the backing array has a
+ * power-of-two length and never resizes, and the head and tail are
+ * ever-increasing sequences that are masked into it.
+ *
+ * Every spot also has its own sequence number, which says whose turn it is.
+ * A spot with sequence s is free for the producer claiming tail s, and holds
+ * data for the consumer claiming head s once its sequence is s + 1. A thread
+ * claims its sequence with a compare-and-set on the tail or head, writes or
+ * reads the spot, and then moves the spot's sequence on with a release
+ * write: to s + 1 after an enqueue, or to s + capacity, one lap later, after
+ * a dequeue. Producers and consumers never share a lock, and they only
+ * contend with their own side on the compare-and-set.
+ *
+ * offer and poll never wait. put and take wait with the queue's
+ * WaitStrategy, which every operation signals after it moves a sequence on.
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ * @userid mnamgoong3
+ * @GTID 903684766
+ */
+public class MpmcArrayQueue<T> {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final int PAD = 16;
+    private static final int TAIL = PAD;
+    private static final int HEAD = TAIL + PAD;
+    private static final int CURSOR_SLOTS = HEAD + PAD;
+
+    private final T[] backingArray;
+    private final AtomicLongArray spotSequences;
+    private final AtomicLongArray cursors;
+    private final int mask;
+    private final WaitStrategy waitStrategy;
+
+    /**
+     * Constructs a new MpmcArrayQueue that holds at least capacity elements
+     * and blocks waiting threads on a Condition.
+     *
+     * @param capacity the smallest number of elements the queue must hold
+     * @throws java.lang.IllegalArgumentException if capacity < 1 or capacity
+     *                                            > 2^30
+     */
+    public MpmcArrayQueue(int capacity) {
+        this(capacity, WaitStrategy.blocking());
+    }
+
+    /**
+     * Constructs a new MpmcArrayQueue that holds at least capacity elements.
+     * The capacity is rounded up to the next power of two, and to at least
+     * 2, since with one spot its two sequences would be the same.
+     *
+     * @param capacity     the smallest number of elements the queue must
+     *                     hold
+     * @param waitStrategy the strategy put and take wait with
+     * @throws java.lang.IllegalArgumentException if capacity < 1, capacity >
+     *                                            2^30 or waitStrategy is
+     *                                            null
+     */
+    public MpmcArrayQueue(int capacity, WaitStrategy waitStrategy) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("The capacity must be between "
+                    + "1 and " + MAX_CAPACITY + ".");
+        }
+        if (waitStrategy == null) {
+            throw new IllegalArgumentException("The wait strategy cannot be "
+                    + "null.");
+        }
+        int length = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1)
+                << 1;
+        this.backingArray = (T[]) new Object[length];
+        this.spotSequences = new AtomicLongArray(length);
+        for (int i = 0; i < length; i++) {
+            spotSequences.setPlain(i, i);
+        }
+        this.cursors = new AtomicLongArray(CURSOR_SLOTS);
+        this.mask = length - 1;
+        this.waitStrategy = waitStrategy;
+    }
+
+    /**
+     * Adds the data to the back of the queue if there is room. Safe to call
+     * from any number of threads at once.
+     *
+     * O(1) for all cases, plus retries of the compare-and-set under
+     * contention.
+     *
+     * @param data the data to add to the back of the queue
+     * @return true if the data was added, false if the queue was full
+     * @throws IllegalArgumentException if data is null
+     */
+    public boolean offer(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null.");
+        }
+        long tail = cursors.get(TAIL);
+        while (true) {
+            int index = (int) tail & mask;
+            long turn = spotSequences.getAcquire(index) - tail;
+            if (turn == 0) {
+                if (cursors.weakCompareAndSetVolatile(TAIL, tail, tail + 1)) {
+                    backingArray[index] = data;
+                    // Hands the spot to the consumer only after it is written
+                    spotSequences.setRelease(index, tail + 1);
+                    waitStrategy.signalAll();
+                    return true;
+                }
+                tail = cursors.get(TAIL);
+            } else if (turn < 0) {
+                // The spot has not been dequeued since the last lap
+                return false;
+            } else {
+                // Another producer claimed this tail first
+                tail = cursors.get(TAIL);
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the data from the front of the queue, if there is
+     * any. The spot dequeued from is replaced with null. Safe to call from
+     * any number of threads at once.
+     *
+     * O(1) for all cases, plus retries of the compare-and-set under
+     * contention.
+     *
+     * @return the data formerly located at the front of the queue, or null
+     * if the queue was empty
+     */
+    public T poll() {
+        long head = cursors.get(HEAD);
+        while (true) {
+            int index = (int) head & mask;
+            long turn = spotSequences.getAcquire(index) - (head + 1);
+            if (turn == 0) {
+                if (cursors.weakCompareAndSetVolatile(HEAD, head, head + 1)) {
+                    T polled = backingArray[index];
+                    backingArray[index] = null;
+                    // Hands the spot to the producer one lap later
+                    spotSequences.setRelease(index, head + backingArray.length);
+                    waitStrategy.signalAll();
+                    return polled;
+                }
+                head = cursors.get(HEAD);
+            } else if (turn < 0) {
+                // The spot has not been enqueued into on this lap yet
+                return null;
+            } else {
+                // Another consumer claimed this head first
+                head = cursors.get(HEAD);
+            }
+        }
+    }
+
+    /**
+     * Adds the data to the back of the queue, waiting with the wait strategy
+     * while the queue is full.
+     *
+     * O(1) plus the time spent waiting.
+     *
+     * @param data the data to add to the back of the queue
+     * @throws IllegalArgumentException       if data is null
+     * @throws java.lang.InterruptedException if the thread is interrupted
+     *                                        while waiting
+     */
+    public void put(T data) throws InterruptedException {
+        while (!offer(data)) {
+            waitStrategy.await(this::hasRoom);
+        }
+    }
+
+    /**
+     * Removes and returns the data from the front of the queue, waiting with
+     * the wait strategy while the queue is empty.
+     *
+     * O(1) plus the time spent waiting.
+     *
+     * @return the data formerly located at the front of the queue
+     * @throws java.lang.InterruptedException if the thread is interrupted
+     *                                        while waiting
+     */
+    public T take() throws InterruptedException {
+        T taken = poll();
+        while (taken == null) {
+            waitStrategy.await(this::hasData);
+            taken = poll();
+        }
+        return taken;
+    }
+
+    /**
+     * Returns the number of data in the queue. With other threads running,
+     * this is only a snapshot.
+     *
+     * O(1) for all cases.
+     *
+     * @return the size of the queue
+     */
+    public int size() {
+        long head = cursors.get(HEAD);
+        long tail = cursors.get(TAIL);
+        return (int) Math.max(0, Math.min(tail - head, backingArray.length));
+    }
+
+    /**
+     * Returns whether or not the queue is empty. With other threads running,
+     * this is only a snapshot.
+     *
+     * O(1) for all cases.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return !hasData();
+    }
+
+    /**
+     * Returns the number of data the queue holds when it is full.
+     *
+     * @return the capacity of the queue
+     */
+    public int getCapacity() {
+        return backingArray.length;
+    }
+
+    /**
+     * Returns the strategy put and take wait with.
+     *
+     * @return the wait strategy of the queue
+     */
+    public WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    /**
+     * Returns whether the spot at the tail is free for a producer.
+     *
+     * @return true if an offer would find room, false otherwise
+     */
+    private boolean hasRoom() {
+        long tail = cursors.get(TAIL);
+        return spotSequences.getAcquire((int) tail & mask) - tail >= 0;
+    }
+
+    /**
+     * Returns whether the spot at the head holds data for a consumer.
+     *
+     * @return true if a poll would find data, false otherwise
+     */
+    private boolean hasData() {
+        long head = cursors.get(HEAD);
+        return spotSequences.getAcquire((int) head & mask) - (head + 1) >= 0;
+    }
+}
@@ -1,8 +1,12 @@
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -275,4 +279,245 @@ public class QueueStudentTest {
         assertEquals(null, linked.getHead());
         assertEquals(null, linked.getTail());
     }
+
+    @Test(timeout = TIMEOUT)
+    public void testArrayCapacityPolicy() {
+        array = new ArrayQueue<>(new CapacityPolicy(2.0, 0.25, 4));
+        array.ensureCapacity(16);
+        assertEquals(1, array.getGrowCount());
+        for (int i = 0; i < 16; i++) {
+            array.enqueue(i + "a");
+        }
+        Object[] backingArray = array.getBackingArray();
+        assertEquals(16, backingArray.length);
+        for (int i = 0; i < 12; i++) {
+            assertEquals(i + "a", array.dequeue());
+        }
+        // 4 of 16 slots in use is at the threshold, so the array shrinks
+        assertEquals(1, array.getShrinkCount());
+
+        Object[] expected = new Object[8];
+        expected[0] = "12a";
+        expected[1] = "13a";
+        expected[2] = "14a";
+        expected[3] = "15a";
+        assertArrayEquals(expected, array.getBackingArray());
+
+        array.trimToSize();
+        assertArrayEquals(new Object[] {"12a", "13a", "14a", "15a"},
+                array.getBackingArray());
+        assertEquals(2, array.getShrinkCount());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testArrayRingBuffer() {
+        array = new ArrayQueue<>(CapacityPolicy.DEFAULT, true);
+        assertEquals(16, ((Object[]) array.getBackingArray()).length);
+        for (int i = 0; i < 12; i++) {
+            array.enqueue(i + "a");
+        }
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i + "a", array.dequeue());
+        }
+        // front is at 10, so the batch wraps around the end of the array
+        array.enqueueAll(new String[] {"12a", "13a", "14a", "15a", "16a",
+            "17a", "18a"});
+        assertEquals(9, array.size());
+        assertEquals(16, ((Object[]) array.getBackingArray()).length);
+
+        String[] out = new String[4];
+        assertEquals(4, array.drainTo(out, 10));
+        assertArrayEquals(new String[] {"10a", "11a", "12a", "13a"}, out);
+        assertEquals(5, array.size());
+        assertEquals("14a", array.peek());
+
+        array.enqueueAll(new String[] {"19a", "20a", "21a", "22a", "23a",
+            "24a", "25a", "26a", "27a", "28a", "29a", "30a"});
+        // 17 elements no longer fit in 16 slots, so the array grows to 32
+        Object[] backingArray = array.getBackingArray();
+        assertEquals(32, backingArray.length);
+        assertEquals("14a", backingArray[0]);
+        assertEquals("30a", backingArray[16]);
+        assertNull(backingArray[17]);
+
+        out = new String[17];
+        assertEquals(17, array.drainTo(out, 20));
+        assertEquals("30a", out[16]);
+        assertEquals(0, array.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSpscArrayQueue() throws InterruptedException {
+        SpscArrayQueue<Integer> spsc = new SpscArrayQueue<>(5);
+        assertEquals(8, spsc.getCapacity());
+        assertNull(spsc.poll());
+        for (int i = 0; i < 8; i++) {
+            assertTrue(spsc.offer(i));
+        }
+        assertFalse(spsc.offer(8));
+        assertEquals((Integer) 0, spsc.peek());
+        Integer[] out = new Integer[3];
+        assertEquals(3, spsc.drainTo(out, 3));
+        assertArrayEquals(new Integer[] {0, 1, 2}, out);
+        assertEquals(5, spsc.size());
+        while (spsc.poll() != null) {
+            continue;
+        }
+
+        int count = 10000;
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                while (!spsc.offer(i)) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+        for (int i = 0; i < count; i++) {
+            Integer polled = spsc.poll();
+            while (polled == null) {
+                Thread.yield();
+                polled = spsc.poll();
+            }
+            assertEquals((Integer) i, polled);
+        }
+        producer.join();
+        assertTrue(spsc.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMpmcArrayQueue() throws InterruptedException {
+        MpmcArrayQueue<Integer> mpmc = new MpmcArrayQueue<>(3);
+        assertEquals(4, mpmc.getCapacity());
+        assertNull(mpmc.poll());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(mpmc.offer(i));
+        }
+        assertFalse(mpmc.offer(4));
+        assertEquals(4, mpmc.size());
+        for (int i = 0; i < 4; i++) {
+            assertEquals((Integer) i, mpmc.poll());
+        }
+        assertTrue(mpmc.isEmpty());
+
+        int count = 10000;
+        Thread[] producers = new Thread[2];
+        for (int p = 0; p < producers.length; p++) {
+            int first = p * count;
+            producers[p] = new Thread(() -> {
+                try {
+                    for (int i = 0; i < count; i++) {
+                        mpmc.put(first + i);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            producers[p].start();
+        }
+        long sum = 0;
+        for (int i = 0; i < 2 * count; i++) {
+            sum += mpmc.take();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        assertEquals((long) 2 * count * (2 * count - 1) / 2, sum);
+        assertTrue(mpmc.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMpmcBusySpin() throws InterruptedException {
+        // A spinning waiter only gives up the CPU when it is preempted, so
+        // the pass is kept short for single-core machines
+        assertPutTakePass(WaitStrategy.BUSY_SPIN, 8);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMpmcYielding() throws InterruptedException {
+        assertPutTakePass(WaitStrategy.YIELDING, 50);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMpmcParking() throws InterruptedException {
+        assertPutTakePass(WaitStrategy.parking(1000), 50);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testParkingZeroNanos() {
+        WaitStrategy.parking(0);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testParkingNegativeNanos() {
+        WaitStrategy.parking(-1);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testBlockingQueues() throws InterruptedException {
+        BoundedBlockingQueue<String> bounded = new BoundedBlockingQueue<>(2);
+        assertTrue(bounded.offer("0a"));
+        bounded.put("1a");
+        assertFalse(bounded.offer("2a"));
+        assertFalse(bounded.offer("2a", 1, TimeUnit.MILLISECONDS));
+        assertEquals("0a", bounded.take());
+        assertEquals(1, bounded.remainingCapacity());
+        String[] out = new String[2];
+        assertEquals(1, bounded.drainTo(out, 2));
+        assertEquals("1a", out[0]);
+        assertNull(bounded.poll(1, TimeUnit.MILLISECONDS));
+
+        LinkedBoundedBlockingQueue<String> linked2 =
+                new LinkedBoundedBlockingQueue<>(2);
+        assertTrue(linked2.offer("0a"));
+        linked2.put("1a");
+        assertFalse(linked2.offer("2a", 1, TimeUnit.MILLISECONDS));
+        assertEquals("0a", linked2.poll());
+        assertEquals("1a", linked2.take());
+        assertNull(linked2.poll(1, TimeUnit.MILLISECONDS));
+
+        // A take on an empty queue blocks until another thread puts
+        Thread producer = new Thread(() -> {
+            try {
+                Thread.sleep(20);
+                linked2.put("3a");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        assertEquals("3a", linked2.take());
+        producer.join();
+        assertEquals(0, linked2.size());
+    }
+
+    /**
+     * Has one thread put data into a small MpmcArrayQueue using the given
+     * strategy while this thread takes it, so both sides have to wait, and
+     * checks the data comes out in order.
+     *
+     * @param strategy the wait strategy to use
+     * @param count    the number of data to pass through the queue
+     * @throws InterruptedException if this thread is interrupted
+     */
+    private void assertPutTakePass(WaitStrategy strategy, int count)
+        throws InterruptedException {
+        MpmcArrayQueue<Integer> mpmc = new MpmcArrayQueue<>(2, strategy);
+        assertSame(strategy, mpmc.getWaitStrategy());
+        Thread producer = new Thread(() -> {
+            try {
+                for (int i = 0; i < count; i++) {
+                    mpmc.put(i);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        for (int i = 0; i < count; i++) {
+            assertEquals((Integer) i, mpmc.take());
+        }
+        producer.join();
+        assertTrue(mpmc.isEmpty());
+    }
 }
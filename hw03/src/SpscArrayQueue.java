@@ -0,0 +1,216 @@
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The implementation of a SpscArrayQueue, which is a bounded, lock-free
+ * queue for exactly one producer thread and one consumer thread. It is an
+ * ArrayQueue in ring-buffer mode that never resizes: the backing array has a
+ * power-of-two length, and the head and tail are ever-increasing sequences
+ * that are masked into it.
+ *
+ * Each side publishes its own sequence with a release write (a lazySet) and
+ * reads the other side's with an acquire read, which orders the plain writes
+ * to the backing array without locks or full fences. Each side also keeps a
+ * private copy of the other side's sequence and only re-reads the shared one
+ * when that copy says the queue looks full or empty, so in the steady state
+ * neither side touches the other's cache line.
+ *
+ * The four sequences live in one AtomicLongArray, spaced so that the
+ * producer's pair and the consumer's pair each get their own cache lines,
+ * with a cache line of padding before, between and after them. This keeps
+ * the two threads from false sharing.
+ *
+ * Only one thread may call offer, and only one thread may call poll, peek
+ * and drainTo. size and isEmpty may be called from any thread, but they are
+ * only a snapshot.
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ * @userid mnamgoong3
+ * @GTID 903684766
+ */
+public class SpscArrayQueue<T> {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final int PAD = 16;
+    private static final int TAIL = PAD;
+    private static final int CACHED_HEAD = TAIL + 1;
+    private static final int HEAD = TAIL + PAD;
+    private static final int CACHED_TAIL = HEAD + 1;
+    private static final int SEQUENCE_SLOTS = HEAD + PAD;
+
+    private final T[] backingArray;
+    private final int mask;
+    private final AtomicLongArray sequences;
+
+    /**
+     * Constructs a new SpscArrayQueue that holds at least capacity elements.
+     * The capacity is rounded up to the next power of two.
+     *
+     * @param capacity the smallest number of elements the queue must hold
+     * @throws java.lang.IllegalArgumentException if capacity < 1 or capacity
+     *                                            > 2^30
+     */
+    public SpscArrayQueue(int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("The capacity must be between "
+                    + "1 and " + MAX_CAPACITY + ".");
+        }
+        int length = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1)
+                << 1;
+        this.backingArray = (T[]) new Object[length];
+        this.mask = length - 1;
+        this.sequences = new AtomicLongArray(SEQUENCE_SLOTS);
+    }
+
+    /**
+     * Adds the data to the back of the queue if there is room. Must only be
+     * called by the producer thread.
+     *
+     * O(1) for all cases.
+     *
+     * @param data the data to add to the back of the queue
+     * @return true if the data was added, false if the queue was full
+     * @throws IllegalArgumentException if data is null
+     */
+    public boolean offer(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null.");
+        }
+        long tail = sequences.getPlain(TAIL);
+        if (tail - sequences.getPlain(CACHED_HEAD) == backingArray.length) {
+            long head = sequences.getAcquire(HEAD);
+            if (tail - head == backingArray.length) {
+                return false;
+            }
+            sequences.setPlain(CACHED_HEAD, head);
+        }
+        backingArray[(int) tail & mask] = data;
+        // Publishes the data only after it is written
+        sequences.setRelease(TAIL, tail + 1);
+        return true;
+    }
+
+    /**
+     * Removes and returns the data from the front of the queue, if there is
+     * any. The spot dequeued from is replaced with null. Must only be called
+     * by the consumer thread.
+     *
+     * O(1) for all cases.
+     *
+     * @return the data formerly located at the front of the queue, or null
+     * if the queue was empty
+     */
+    public T poll() {
+        long head = sequences.getPlain(HEAD);
+        if (!hasData(head)) {
+            return null;
+        }
+        int index = (int) head & mask;
+        T polled = backingArray[index];
+        backingArray[index] = null;
+        // Frees the spot only after it is cleared
+        sequences.setRelease(HEAD, head + 1);
+        return polled;
+    }
+
+    /**
+     * Returns the data from the front of the queue without removing it. Must
+     * only be called by the consumer thread.
+     *
+     * O(1) for all cases.
+     *
+     * @return the data located at the front of the queue, or null if the
+     * queue is empty
+     */
+    public T peek() {
+        long head = sequences.getPlain(HEAD);
+        return hasData(head) ? backingArray[(int) head & mask] : null;
+    }
+
+    /**
+     * Removes up to max data from the front of the queue and stores them,
+     * in order, at the start of the given array. The head is published once
+     * for the whole batch. Must only be called by the consumer thread.
+     *
+     * O(k) for all cases, where k is the number of data removed.
+     *
+     * @param out the array to store the removed data in
+     * @param max the largest number of data to remove
+     * @return the number of data removed
+     * @throws IllegalArgumentException if out is null or max < 0
+     */
+    public int drainTo(T[] out, int max) {
+        if (out == null) {
+            throw new IllegalArgumentException("Output array cannot be "
+                    + "null.");
+        }
+        if (max < 0) {
+            throw new IllegalArgumentException("Max cannot be negative.");
+        }
+        long head = sequences.getPlain(HEAD);
+        int limit = Math.min(max, out.length);
+        int count = 0;
+        while (count < limit && hasData(head + count)) {
+            int index = (int) (head + count) & mask;
+            out[count] = backingArray[index];
+            backingArray[index] = null;
+            count++;
+        }
+        if (count > 0) {
+            sequences.setRelease(HEAD, head + count);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of data in the queue. With both threads running,
+     * this is only a snapshot.
+     *
+     * O(1) for all cases.
+     *
+     * @return the size of the queue
+     */
+    public int size() {
+        long head = sequences.getAcquire(HEAD);
+        long tail = sequences.getAcquire(TAIL);
+        return (int) Math.max(0, Math.min(tail - head, backingArray.length));
+    }
+
+    /**
+     * Returns whether or not the queue is empty. With both threads running,
+     * this is only a snapshot.
+     *
+     * O(1) for all cases.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of data the queue holds when it is full.
+     *
+     * @return the capacity of the queue
+     */
+    public int getCapacity() {
+        return backingArray.length;
+    }
+
+    /**
+     * Returns whether the spot with the given sequence holds published data,
+     * re-reading the producer's tail only if the consumer's copy of it says
+     * the queue has been drained up to there.
+     *
+     * @param sequence the sequence of the spot, at or after the head
+     * @return true if the spot holds data, false otherwise
+     */
+    private boolean hasData(long sequence) {
+        if (sequence < sequences.getPlain(CACHED_TAIL)) {
+            return true;
+        }
+        long tail = sequences.getAcquire(TAIL);
+        sequences.setPlain(CACHED_TAIL, tail);
+        return sequence < tail;
+    }
+}
@@ -228,4 +228,51 @@ public class StackStudentTest {
         assertEquals(19, linked.size());
         assertEquals("top", linked.getHead().getData());
     }
+
+    @Test(timeout = TIMEOUT)
+    public void testArrayCapacityPolicy() {
+        array = new ArrayStack<>(new CapacityPolicy(2.0, 0.25, 4));
+        for (int i = 0; i < 9; i++) {
+            array.push(i + "a");
+        }
+        // 4 grows to 8 on the 5th push and to 16 on the 9th
+        assertEquals(2, array.getGrowCount());
+        Object[] backingArray = array.getBackingArray();
+        assertEquals(16, backingArray.length);
+
+        for (int i = 8; i > 4; i--) {
+            assertEquals(i + "a", array.pop());
+        }
+        // 5 of 16 slots in use is above the threshold
+        assertEquals(0, array.getShrinkCount());
+        assertEquals("4a", array.pop());
+        // 4 of 16 slots in use is at the threshold, so the array shrinks
+        assertEquals(1, array.getShrinkCount());
+        Object[] expected = new Object[8];
+        for (int i = 0; i < 4; i++) {
+            expected[i] = i + "a";
+        }
+        assertArrayEquals(expected, array.getBackingArray());
+
+        array.pop();
+        array.pop();   // 0a, 1a
+        assertEquals(2, array.getShrinkCount());
+        assertArrayEquals(new Object[] {"0a", "1a", null, null},
+                array.getBackingArray());
+
+        // The array never shrinks below the initial capacity
+        array.pop();
+        array.pop();
+        assertEquals(2, array.getShrinkCount());
+        assertArrayEquals(new Object[4], array.getBackingArray());
+
+        array.ensureCapacity(10);
+        assertEquals(3, array.getGrowCount());
+        backingArray = array.getBackingArray();
+        assertEquals(10, backingArray.length);
+        array.push("0a");
+        array.trimToSize();
+        assertEquals(3, array.getShrinkCount());
+        assertArrayEquals(new Object[] {"0a"}, array.getBackingArray());
+    }
 }
@@ -0,0 +1,151 @@
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * A strategy for how a thread waits for a concurrent queue to have room or
+ * data. The queue calls await when an operation cannot go ahead, and
+ * signalAll after every operation that adds or removes data, so a strategy
+ * that sleeps can wake its waiters.
+ *
+ * The strategies trade latency for CPU: busy-spinning reacts fastest but
+ * burns a core per waiter, while blocking uses no CPU while waiting but pays
+ * for a wake-up. The blocking strategy waits on a ReentrantLock Condition,
+ * which unmounts a virtual thread instead of pinning its carrier thread.
+ *
+ * @author Michelle Namgoong
+ * @version 1.0
+ * @userid mnamgoong3
+ * @GTID 903684766
+ */
+public interface WaitStrategy {
+
+    /**
+     * Spins on the condition without ever giving up the CPU.
+     */
+    WaitStrategy BUSY_SPIN = new WaitStrategy() {
+        @Override
+        public void await(BooleanSupplier ready) throws InterruptedException {
+            while (!ready.getAsBoolean()) {
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                Thread.onSpinWait();
+            }
+        }
+    };
+
+    /**
+     * Yields the CPU to other threads between checks of the condition.
+     */
+    WaitStrategy YIELDING = new WaitStrategy() {
+        @Override
+        public void await(BooleanSupplier ready) throws InterruptedException {
+            while (!ready.getAsBoolean()) {
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                Thread.yield();
+            }
+        }
+    };
+
+    /**
+     * Returns a strategy that parks the thread for the given time between
+     * checks of the condition.
+     *
+     * @param nanos the number of nanoseconds to park between checks
+     * @return the parking strategy
+     * @throws java.lang.IllegalArgumentException if nanos < 1
+     */
+    static WaitStrategy parking(long nanos) {
+        if (nanos < 1) {
+            throw new IllegalArgumentException("The park time must be at "
+                    + "least 1 nanosecond.");
+        }
+        return new WaitStrategy() {
+            @Override
+            public void await(BooleanSupplier ready)
+                throws InterruptedException {
+                while (!ready.getAsBoolean()) {
+                    if (Thread.interrupted()) {
+                        throw new InterruptedException();
+                    }
+                    LockSupport.parkNanos(this, nanos);
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns a strategy that blocks the thread on a Condition until another
+     * thread signals it. A signal only takes the lock when some thread is
+     * waiting, so operations pay a single fence while nobody waits. Each
+     * queue needs its own instance.
+     *
+     * @return the blocking strategy
+     */
+    static WaitStrategy blocking() {
+        return new WaitStrategy() {
+            private final ReentrantLock lock = new ReentrantLock();
+            private final Condition changed = lock.newCondition();
+            private final AtomicInteger waiters = new AtomicInteger();
+
+            @Override
+            public void await(BooleanSupplier ready)
+                throws InterruptedException {
+                if (ready.getAsBoolean()) {
+                    return;
+                }
+                waiters.incrementAndGet();
+                try {
+                    lock.lockInterruptibly();
+                    try {
+                        // Checked under the lock, so a signal cannot slip in
+                        // between the check and the wait
+                        while (!ready.getAsBoolean()) {
+                            changed.await();
+                        }
+                    } finally {
+                        lock.unlock();
+                    }
+                } finally {
+                    waiters.decrementAndGet();
+                }
+            }
+
+            @Override
+            public void signalAll() {
+                // Orders the caller's publish before the read of waiters
+                VarHandle.fullFence();
+                if (waiters.get() > 0) {
+                    lock.lock();
+                    try {
+                        changed.signalAll();
+                    } finally {
+                        lock.unlock();
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Waits until the condition holds.
+     *
+     * @param ready the condition to wait for
+     * @throws java.lang.InterruptedException if the thread is interrupted
+     *                                        while waiting
+     */
+    void await(BooleanSupplier ready) throws InterruptedException;
+
+    /**
+     * Wakes every thread waiting in await so that it checks its condition
+     * again. Does nothing by default, for strategies that never sleep.
+     */
+    default void signalAll() {
+    }
+}